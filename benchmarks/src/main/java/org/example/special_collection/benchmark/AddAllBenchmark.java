@@ -0,0 +1,105 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends {@code size} elements with {@code addAll}: once as a single array,
+ * and as a stream of batches of at most {@link #BATCH_SIZE} elements (arrays and collections).
+ * The middle variants insert every batch in the middle of the list with {@code addAll(int, ...)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AddAllBenchmark {
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+    private List<Integer> valuesList;
+    private Integer[][] batches;
+    private List<List<Integer>> batchLists;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+        valuesList = Arrays.asList(values);
+
+        int batchCount = (size + BATCH_SIZE - 1) / BATCH_SIZE;
+        batches = new Integer[batchCount][];
+        batchLists = new ArrayList<>(batchCount);
+        for (int i = 0; i < batchCount; i++) {
+            batches[i] = Arrays.copyOfRange(values, i * BATCH_SIZE, Math.min(size, (i + 1) * BATCH_SIZE));
+            batchLists.add(Arrays.asList(batches[i]));
+        }
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList(GrowthState growth) {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10, growth.expansionCoefficient);
+        list.addAll(values);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        List<Integer> list = new ArrayList<>(10);
+        list.addAll(valuesList);
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListBatches(GrowthState growth) {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10, growth.expansionCoefficient);
+        for (Integer[] batch : batches) {
+            list.addAll(batch);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListCollectionBatches(GrowthState growth) {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10, growth.expansionCoefficient);
+        for (List<Integer> batch : batchLists) {
+            list.addAll(batch);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListMiddleBatches(GrowthState growth) {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10, growth.expansionCoefficient);
+        for (Integer[] batch : batches) {
+            list.addAll(list.size() / 2, batch);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListMiddleBatches() {
+        List<Integer> list = new ArrayList<>(10);
+        for (List<Integer> batch : batchLists) {
+            list.addAll(list.size() / 2, batch);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListBatches() {
+        List<Integer> list = new ArrayList<>(10);
+        for (List<Integer> batch : batchLists) {
+            list.addAll(batch);
+        }
+        return list;
+    }
+}
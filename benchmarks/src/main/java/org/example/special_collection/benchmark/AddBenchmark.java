@@ -0,0 +1,48 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a list of {@code size} elements with {@code add(T)}, starting from the default capacity.
+ * Measures the amortized cost of appending, including every array expansion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AddBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList(GrowthState growth) {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10, growth.expansionCoefficient);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        List<Integer> list = new ArrayList<>(10);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts one element with {@code add(int, T)} into a list of {@code size} elements.
+ * The last element is removed afterwards (which costs O(1)), so the list keeps its size
+ * and every invocation shifts the same number of elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AddByIndexBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    @Param({"FIRST", "MIDDLE"})
+    public Position position;
+
+    private SpecialArrayList<Integer> specialList;
+    private List<Integer> arrayList;
+    private int index;
+
+    public enum Position {
+        FIRST, MIDDLE
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        arrayList = new ArrayList<>(Arrays.asList(values));
+        index = position == Position.FIRST ? 0 : size / 2;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList() {
+        specialList.add(index, 42);
+        specialList.remove(specialList.size() - 1);
+        return specialList;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        arrayList.add(index, 42);
+        arrayList.remove(arrayList.size() - 1);
+        return arrayList;
+    }
+}
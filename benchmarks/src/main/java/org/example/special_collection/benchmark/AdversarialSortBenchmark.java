@@ -0,0 +1,48 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts inputs that degrade a naive quicksort: sorted, reversed, all-equal, few unique values and organ pipe.
+ * As in {@link SortBenchmark}, the copy into a fresh list is part of every measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AdversarialSortBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "ALL_EQUAL", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public Distribution distribution;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = distribution.generate(size);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(values));
+        list.sort(null);
+        return list;
+    }
+}
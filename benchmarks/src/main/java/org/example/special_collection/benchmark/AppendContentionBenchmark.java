@@ -0,0 +1,113 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.AppendOnlySpecialList;
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Telemetry ingestion: 1 to 64 producers append to one shared list,
+ * and every {@link #DRAIN_PERIOD} appends a producer drains the list into its own buffer.
+ * Compares the lock-free {@link AppendOnlySpecialList} with a {@code synchronized} SpecialArrayList.
+ * The score is the time of one append per thread, so a flat line across thread counts means no contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AppendContentionBenchmark {
+    static final int DRAIN_PERIOD = 1 << 16;
+    static final Integer EVENT = 42;
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private final SpecialArrayList<Integer> buffer = new SpecialArrayList<>(DRAIN_PERIOD);
+        private int appended = 0;
+
+        boolean drainDue() {
+            return (++appended & (DRAIN_PERIOD - 1)) == 0;
+        }
+    }
+
+    private AppendOnlySpecialList<Integer> appendOnlyList;
+    private SpecialArrayList<Integer> lockedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        appendOnlyList = new AppendOnlySpecialList<>();
+        lockedList = new SpecialArrayList<>();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void appendOnly01(Producer producer) {
+        appendOnly(producer);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void appendOnly04(Producer producer) {
+        appendOnly(producer);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void appendOnly16(Producer producer) {
+        appendOnly(producer);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void appendOnly64(Producer producer) {
+        appendOnly(producer);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void synchronized01(Producer producer) {
+        locked(producer);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void synchronized04(Producer producer) {
+        locked(producer);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void synchronized16(Producer producer) {
+        locked(producer);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void synchronized64(Producer producer) {
+        locked(producer);
+    }
+
+    //private methods
+    private void appendOnly(Producer producer) {
+        appendOnlyList.add(EVENT);
+        if (producer.drainDue()) {
+            appendOnlyList.drainTo(producer.buffer);
+            producer.buffer.clean();
+        }
+    }
+
+    private void locked(Producer producer) {
+        synchronized (lockedList) {
+            lockedList.add(EVENT);
+        }
+        if (producer.drainDue()) {
+            synchronized (lockedList) {
+                producer.buffer.addAll(lockedList.toArray(new Integer[0]));
+                lockedList.clean();
+            }
+            producer.buffer.clean();
+        }
+    }
+}
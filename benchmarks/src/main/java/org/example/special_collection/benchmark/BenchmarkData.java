@@ -0,0 +1,29 @@
+package org.example.special_collection.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic input data shared by the benchmarks.
+ * Every benchmark uses the same seed, so runs are comparable with each other.
+ */
+final class BenchmarkData {
+    static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates an array of random boxed integers.
+     *
+     * @param size the number of elements.
+     * @return the array of random values.
+     */
+    static Integer[] randomIntegers(int size) {
+        Random random = new Random(SEED);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+}
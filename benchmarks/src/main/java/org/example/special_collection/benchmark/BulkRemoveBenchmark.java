@@ -0,0 +1,68 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic cleanup: removes every element below a threshold (about {@code percent}% of a list of {@code size} elements).
+ * Compares the single-pass {@code removeIf} with the old way, a {@code remove(int)} per element.
+ * Every invocation starts from a fresh copy of the list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BulkRemoveBenchmark {
+    @Param({"10000", "100000"})
+    public int size;
+
+    @Param({"1", "10", "50"})
+    public int percent;
+
+    private Integer[] values;
+    private int threshold;
+    private SpecialArrayList<Integer> specialList;
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+        Integer[] sorted = values.clone();
+        Arrays.sort(sorted);
+        threshold = sorted[(int) ((long) size * percent / 100)];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        specialList = new SpecialArrayList<>(values);
+        arrayList = new ArrayList<>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListRemoveIf() {
+        specialList.removeIf(value -> value < threshold);
+        return specialList;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListRemoveByIndex() {
+        for (int i = specialList.size() - 1; i >= 0; i--) {
+            if (specialList.get(i) < threshold)
+                specialList.remove(i);
+        }
+        return specialList;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListRemoveIf() {
+        arrayList.removeIf(value -> value < threshold);
+        return arrayList;
+    }
+}
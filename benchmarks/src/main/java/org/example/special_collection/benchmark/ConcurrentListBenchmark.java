@@ -0,0 +1,103 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.ConcurrentSpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Four threads share one list of {@code size} elements and run a mix of
+ * {@code get} and {@code replace} (set) at random indexes; {@code writePercent} of the operations are writes.
+ * The size stays constant, so every implementation does the same work per operation.
+ * 5% writes is the read-heavy mix, 50% the write-heavy one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+    public enum Implementation {
+        CONCURRENT_SPECIAL,
+        SYNCHRONIZED_LIST,
+        COPY_ON_WRITE
+    }
+
+    /**
+     * The operations the benchmark needs, over every compared implementation.
+     */
+    private interface SharedList {
+        Integer get(int index);
+
+        void set(int index, Integer value);
+    }
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"5", "50"})
+    public int writePercent;
+
+    @Param
+    public Implementation implementation;
+
+    private SharedList list;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        switch (implementation) {
+            case CONCURRENT_SPECIAL: {
+                ConcurrentSpecialArrayList<Integer> special = new ConcurrentSpecialArrayList<>(size);
+                special.addAll(values);
+                list = new SharedList() {
+                    public Integer get(int index) {
+                        return special.get(index);
+                    }
+
+                    public void set(int index, Integer value) {
+                        special.replace(index, value);
+                    }
+                };
+                break;
+            }
+            case SYNCHRONIZED_LIST:
+                list = adapt(Collections.synchronizedList(new ArrayList<>(Arrays.asList(values))));
+                break;
+            default:
+                list = adapt(new CopyOnWriteArrayList<>(values));
+        }
+    }
+
+    @Benchmark
+    public Integer mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(size);
+        if (random.nextInt(100) < writePercent) {
+            list.set(index, index);
+            return null;
+        }
+        return list.get(index);
+    }
+
+    //private methods
+    private static SharedList adapt(List<Integer> target) {
+        return new SharedList() {
+            public Integer get(int index) {
+                return target.get(index);
+            }
+
+            public void set(int index, Integer value) {
+                target.set(index, value);
+            }
+        };
+    }
+}
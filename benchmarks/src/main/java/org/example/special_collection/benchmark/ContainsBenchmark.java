@@ -0,0 +1,51 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@code contains} call on a list of 100k elements, half of the keys are present:
+ * a linear scan compared with the hash index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ContainsBenchmark {
+    private static final int SIZE = 100_000;
+    private static final int KEYS = 1024;
+
+    private SpecialArrayList<Integer> scannedList;
+    private SpecialArrayList<Integer> indexedList;
+    private Integer[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(SIZE);
+        scannedList = new SpecialArrayList<>(values);
+        indexedList = new SpecialArrayList<>(values);
+        indexedList.setHashIndex(true);
+
+        Random random = new Random(7);
+        keys = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i % 2 == 0 ? values[random.nextInt(SIZE)] : random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public boolean linearContains() {
+        return scannedList.contains(keys[next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public boolean indexedContains() {
+        return indexedList.contains(keys[next++ & (KEYS - 1)]);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.special_collection.benchmark;
+
+import java.util.Random;
+
+/**
+ * Input orderings for the sort benchmarks, including the ones that are adversarial for a naive quicksort.
+ */
+public enum Distribution {
+    RANDOM,
+    SORTED,
+    REVERSED,
+    ALL_EQUAL,
+    FEW_UNIQUE,
+    ORGAN_PIPE,
+    NEARLY_SORTED,
+    APPENDED_BATCH;
+
+    /**
+     * Creates an array of boxed integers with this distribution.
+     *
+     * @param size the number of elements.
+     * @return the generated array.
+     */
+    public Integer[] generate(int size) {
+        Random random = new Random(BenchmarkData.SEED);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            switch (this) {
+                case RANDOM:
+                    values[i] = random.nextInt();
+                    break;
+                case SORTED:
+                case NEARLY_SORTED:
+                    values[i] = i;
+                    break;
+                case APPENDED_BATCH:
+                    //sorted prefix followed by an unsorted batch of one percent
+                    values[i] = i < size - size / 100 ? i : random.nextInt(size);
+                    break;
+                case REVERSED:
+                    values[i] = size - i;
+                    break;
+                case ALL_EQUAL:
+                    values[i] = 42;
+                    break;
+                case FEW_UNIQUE:
+                    values[i] = random.nextInt(4);
+                    break;
+                case ORGAN_PIPE:
+                    values[i] = i < size / 2 ? i : size - i;
+                    break;
+                default:
+                    throw new IllegalStateException(name());
+            }
+        }
+
+        if (this == NEARLY_SORTED) {
+            //one swap per hundred elements
+            for (int i = 0; i < size / 100; i++) {
+                int a = random.nextInt(size);
+                int b = random.nextInt(size);
+                Integer temp = values[a];
+                values[a] = values[b];
+                values[b] = temp;
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads every element of a list of {@code size} elements with {@code get(int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GetBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private SpecialArrayList<Integer> specialList;
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        arrayList = new ArrayList<>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public long specialArrayList() {
+        long sum = 0;
+        for (int i = 0; i < specialList.size(); i++) {
+            sum += specialList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arrayList() {
+        long sum = 0;
+        for (int i = 0; i < arrayList.size(); i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+}
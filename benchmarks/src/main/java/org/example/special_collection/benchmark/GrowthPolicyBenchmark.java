@@ -0,0 +1,100 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.growth.CappedGeometricGrowthPolicy;
+import org.example.special_collection.growth.FixedIncrementGrowthPolicy;
+import org.example.special_collection.growth.GeometricGrowthPolicy;
+import org.example.special_collection.growth.GrowthPolicy;
+import org.example.special_collection.growth.PageAlignedGrowthPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A spike and a drain: appends {@code size} elements, then removes them from the end down to 1%.
+ * Compares the growth policies, with and without the automatic shrink;
+ * the shrinking variants pay for the copies while draining, and keep only a small array afterwards.
+ * Run with {@code -prof gc} to see the allocation side.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GrowthPolicyBenchmark {
+    public enum Policy {
+        GEOMETRIC,
+        GEOMETRIC_SHRINKING,
+        FIXED_INCREMENT,
+        CAPPED_GEOMETRIC,
+        PAGE_ALIGNED;
+
+        GrowthPolicy create() {
+            switch (this) {
+                case GEOMETRIC:
+                    return new GeometricGrowthPolicy(1.5);
+                case GEOMETRIC_SHRINKING:
+                    return new GeometricGrowthPolicy(1.5).withAutoShrink();
+                case FIXED_INCREMENT:
+                    return new FixedIncrementGrowthPolicy(4096);
+                case CAPPED_GEOMETRIC:
+                    return new CappedGeometricGrowthPolicy(1.5, 1 << 16);
+                default:
+                    return new PageAlignedGrowthPolicy(1.5);
+            }
+        }
+    }
+
+    /**
+     * Kept in a separate state, so the java.util.ArrayList baseline is not repeated for every policy.
+     */
+    @State(Scope.Benchmark)
+    public static class PolicyState {
+        @Param
+        public Policy policy;
+
+        private GrowthPolicy growthPolicy;
+
+        @Setup
+        public void setUp() {
+            growthPolicy = policy.create();
+        }
+    }
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList(PolicyState state) {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10, state.growthPolicy);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        for (int i = size - 1; i >= size / 100; i--) {
+            list.remove(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        List<Integer> list = new ArrayList<>(10);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        for (int i = size - 1; i >= size / 100; i--) {
+            list.remove(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.special_collection.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Expansion coefficients for the SpecialArrayList side of a benchmark.
+ * Kept in a separate state, so java.util.ArrayList baselines are not repeated for every coefficient.
+ */
+@State(Scope.Benchmark)
+public class GrowthState {
+    @Param({"1.5", "2.0"})
+    public double expansionCoefficient;
+}
@@ -0,0 +1,62 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts {@code size} log lines by the timestamp parsed from their text, an expensive key:
+ * with a comparator that parses both lines on every comparison,
+ * compared with sortByKey, which parses every line once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class KeyedSortBenchmark {
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private String[] lines;
+    private SpecialArrayList<String> list;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        lines = new String[size];
+        for (int i = 0; i < size; i++) {
+            lines[i] = start.plusSeconds(random.nextInt(1 << 25)).format(FORMAT) + " INFO request " + i;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        list = new SpecialArrayList<>(lines);
+    }
+
+    @Benchmark
+    public SpecialArrayList<String> comparatorParsingKeys() {
+        list.sort(Comparator.comparing(KeyedSortBenchmark::timestamp));
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<String> sortByCachedKey() {
+        list.sortByKey(KeyedSortBenchmark::timestamp);
+        return list;
+    }
+
+    private static LocalDateTime timestamp(String line) {
+        return LocalDateTime.parse(line.substring(0, line.indexOf(' ')), FORMAT);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.MappedSpecialList;
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.codec.LongCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of a list of {@code size} longs: reopening a {@link MappedSpecialList} from its file,
+ * compared with rebuilding a {@link SpecialArrayList} from source data.
+ * Both read the last element, so the measurement includes touching the data.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MappedListBenchmark {
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private long[] source;
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        source = new long[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextLong();
+        }
+
+        file = Files.createTempFile("mapped-list", ".dat");
+        Files.delete(file);
+        try (MappedSpecialList<Long> list = MappedSpecialList.open(file, LongCodec.INSTANCE)) {
+            for (long value : source) {
+                list.add(value);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long mappedReopen() {
+        try (MappedSpecialList<Long> list = MappedSpecialList.open(file, LongCodec.INSTANCE)) {
+            return list.get(list.size() - 1);
+        }
+    }
+
+    @Benchmark
+    public long specialArrayListRebuild() {
+        SpecialArrayList<Long> list = new SpecialArrayList<>(size);
+        for (long value : source) {
+            list.add(value);
+        }
+        return list.get(list.size() - 1);
+    }
+}
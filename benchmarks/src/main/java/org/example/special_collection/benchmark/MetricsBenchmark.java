@@ -0,0 +1,62 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.SpecialListMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link SpecialListMetrics} on the hot paths: appending, inserting at the front and sorting
+ * {@code size} elements, with the metrics off and on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean metricsEnabled;
+
+    private Integer[] values;
+    private SpecialListMetrics metrics;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+        metrics = metricsEnabled ? new SpecialListMetrics() : null;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> add() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>();
+        list.setMetrics(metrics);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> addFirst() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>();
+        list.setMetrics(metrics);
+        for (int i = 0; i < 1000; i++) {
+            list.add(0, values[i]);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> sort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.setMetrics(metrics);
+        list.sort();
+        return list;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.OffHeapSpecialList;
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.codec.LongCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link OffHeapSpecialList} with a heap {@link SpecialArrayList} of boxed longs:
+ * summing all elements by index, and refilling and sorting the list.
+ * The off-heap list is sorted with a comparator (decoding) and by encoded bytes (no decoding).
+ * Run with {@code -prof gc} to see the allocation rate of each variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Long[] values;
+    private OffHeapSpecialList<Long> offHeapList;
+    private SpecialArrayList<Long> specialList;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new Long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextLong();
+        }
+        offHeapList = new OffHeapSpecialList<>(LongCodec.INSTANCE);
+        offHeapList.addAll(values);
+        specialList = new SpecialArrayList<>(values);
+    }
+
+    @TearDown
+    public void tearDown() {
+        offHeapList.close();
+    }
+
+    @Benchmark
+    public long offHeapSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += offHeapList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long specialArrayListSum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += specialList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public OffHeapSpecialList<Long> offHeapSortComparator() {
+        refill();
+        offHeapList.sort(Comparator.naturalOrder());
+        return offHeapList;
+    }
+
+    @Benchmark
+    public OffHeapSpecialList<Long> offHeapSortEncoded() {
+        refill();
+        offHeapList.sortEncoded();
+        return offHeapList;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Long> specialArrayListSort() {
+        SpecialArrayList<Long> list = new SpecialArrayList<>(values);
+        list.sort();
+        return list;
+    }
+
+    //перезаписываем записи на месте, чтобы не выделять страницы заново
+    private void refill() {
+        for (int i = 0; i < size; i++) {
+            offHeapList.replace(i, values[i]);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code parallelSort()} with the sequential {@code sort()} and with {@link Arrays#parallelSort}.
+ * As in {@link SortBenchmark}, the copy of the input is part of every measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParallelSortBenchmark {
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListSort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListParallelSort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.parallelSort();
+        return list;
+    }
+
+    @Benchmark
+    public Integer[] arraysParallelSort() {
+        Integer[] copy = values.clone();
+        Arrays.parallelSort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.PersistentSpecialList;
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Undo history: keeps {@link #VERSIONS} versions of a list of {@code size} elements, each differing by one update.
+ * Compares the structural sharing of {@link PersistentSpecialList} with a full SpecialArrayList copy per version.
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is the memory cost of all versions.
+ * Also compares building a persistent list with the builder and with repeated {@code add}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PersistentListBenchmark {
+    static final int VERSIONS = 100;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+    private int[] indexes;
+    private PersistentSpecialList<Integer> persistentList;
+    private SpecialArrayList<Integer> specialList;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+        indexes = new int[VERSIONS];
+        for (int i = 0; i < VERSIONS; i++) {
+            indexes[i] = Math.floorMod(values[i % size], size);
+        }
+        persistentList = PersistentSpecialList.of(values);
+        specialList = new SpecialArrayList<>(values);
+    }
+
+    @Benchmark
+    public Object[] versionsPersistent() {
+        Object[] versions = new Object[VERSIONS];
+        PersistentSpecialList<Integer> version = persistentList;
+        for (int i = 0; i < VERSIONS; i++) {
+            version = version.replace(indexes[i], i);
+            versions[i] = version;
+        }
+        return versions;
+    }
+
+    @Benchmark
+    public Object[] versionsSpecialArrayListCopy() {
+        Object[] versions = new Object[VERSIONS];
+        SpecialArrayList<Integer> version = specialList;
+        for (int i = 0; i < VERSIONS; i++) {
+            version = new SpecialArrayList<>(version.toArray(new Integer[0]));
+            version.replace(indexes[i], i);
+            versions[i] = version;
+        }
+        return versions;
+    }
+
+    @Benchmark
+    public PersistentSpecialList<Integer> buildWithBuilder() {
+        return PersistentSpecialList.<Integer>builder().addAll(values).build();
+    }
+
+    @Benchmark
+    public PersistentSpecialList<Integer> buildWithAdd() {
+        PersistentSpecialList<Integer> list = PersistentSpecialList.empty();
+        for (Integer value : values) {
+            list = list.add(value);
+        }
+        return list;
+    }
+}
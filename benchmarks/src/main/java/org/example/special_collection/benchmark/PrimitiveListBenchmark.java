@@ -0,0 +1,80 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.SpecialIntArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the boxed {@code SpecialArrayList<Integer>} with {@link SpecialIntArrayList}:
+ * filling a list of {@code size} values, summing it with {@code get(int)} and sorting a copy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PrimitiveListBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private int[] values;
+    private SpecialArrayList<Integer> boxedList;
+    private SpecialIntArrayList intList;
+
+    @Setup
+    public void setUp() {
+        Integer[] boxed = BenchmarkData.randomIntegers(size);
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = boxed[i];
+        }
+        boxedList = new SpecialArrayList<>(boxed);
+        intList = new SpecialIntArrayList(values);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> addBoxed() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialIntArrayList addInt() {
+        SpecialIntArrayList list = new SpecialIntArrayList();
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long getBoxed() {
+        long sum = 0;
+        for (int i = 0; i < boxedList.size(); i++) {
+            sum += boxedList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getInt() {
+        long sum = 0;
+        for (int i = 0; i < intList.size(); i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public SpecialIntArrayList sortInt() {
+        SpecialIntArrayList list = new SpecialIntArrayList(values);
+        list.sort();
+        return list;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayDeque;
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uses a list of {@code size} elements as a work queue: every invocation appends one element
+ * and takes the first one, so the size stays the same.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class QueueBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private SpecialArrayList<Integer> specialList;
+    private SpecialArrayDeque<Integer> specialDeque;
+    private ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        specialDeque = new SpecialArrayDeque<>(values);
+        arrayDeque = new ArrayDeque<>(size);
+        for (Integer value : values) {
+            arrayDeque.addLast(value);
+        }
+    }
+
+    @Benchmark
+    public Integer specialArrayList() {
+        specialList.add(42);
+        Integer first = specialList.get(0);
+        specialList.remove(0);
+        return first;
+    }
+
+    @Benchmark
+    public Integer specialArrayDeque() {
+        specialDeque.addLast(42);
+        return specialDeque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer arrayDeque() {
+        arrayDeque.addLast(42);
+        return arrayDeque.removeFirst();
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts {@code size} records by their int id and by their long timestamp:
+ * with a comparator through introsort, compared with the radix sort by extracted key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RadixSortBenchmark {
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Record[] records;
+    private SpecialArrayList<Record> list;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        records = new Record[size];
+        for (int i = 0; i < size; i++) {
+            records[i] = new Record(random.nextInt(), 1_600_000_000_000L + random.nextInt(1 << 30));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        list = new SpecialArrayList<>(records);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Record> comparatorByInt() {
+        list.sort(Comparator.comparingInt(Record::id));
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Record> radixByInt() {
+        list.sortByIntKey(Record::id);
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Record> comparatorByLong() {
+        list.sort(Comparator.comparingLong(Record::timestamp));
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Record> radixByLong() {
+        list.sortByLongKey(Record::timestamp);
+        return list;
+    }
+
+    public static final class Record {
+        private final int id;
+        private final long timestamp;
+
+        Record(int id, long timestamp) {
+            this.id = id;
+            this.timestamp = timestamp;
+        }
+
+        int id() {
+            return id;
+        }
+
+        long timestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes one element with {@code remove(int)} from a list of {@code size} elements.
+ * An element is appended afterwards (which costs O(1)), so the list keeps its size
+ * and every invocation shifts the same number of elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RemoveBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    @Param({"FIRST", "MIDDLE"})
+    public AddByIndexBenchmark.Position position;
+
+    private SpecialArrayList<Integer> specialList;
+    private List<Integer> arrayList;
+    private int index;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        arrayList = new ArrayList<>(Arrays.asList(values));
+        index = position == AddByIndexBenchmark.Position.FIRST ? 0 : size / 2;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList() {
+        specialList.remove(index);
+        specialList.add(42);
+        return specialList;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        arrayList.remove(index);
+        arrayList.add(42);
+        return arrayList;
+    }
+}
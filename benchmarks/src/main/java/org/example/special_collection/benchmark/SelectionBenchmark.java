@@ -0,0 +1,64 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes the median and the top 100 out of {@code size} elements:
+ * by a full sort of a fresh copy, compared with select, topK and partialSort.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SelectionBenchmark {
+    private static final int K = 100;
+
+    @Param({"1000000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+    }
+
+    @Benchmark
+    public Integer medianBySort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort();
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer medianBySelect() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        return list.select(size / 2, Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public Integer top100BySort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort(Comparator.reverseOrder());
+        return list.get(K - 1);
+    }
+
+    @Benchmark
+    public Integer top100ByTopK() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        return list.topK(K, Comparator.reverseOrder()).get(K - 1);
+    }
+
+    @Benchmark
+    public Integer top100ByPartialSort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.partialSort(K, Comparator.reverseOrder());
+        return list.get(K - 1);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.SpecialLongArrayList;
+import org.example.special_collection.codec.LongCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshots a list of {@code size} longs with the binary format of {@code writeTo}
+ * (boxed list with a codec, and the primitive list), compared with Java serialization of an ArrayList,
+ * and loads it back with {@code readFrom}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private final WritableByteChannel sink = Channels.newChannel(OutputStream.nullOutputStream());
+    private SpecialArrayList<Long> specialList;
+    private SpecialLongArrayList longList;
+    private ArrayList<Long> arrayList;
+    private byte[] specialBytes;
+    private byte[] longBytes;
+    private byte[] javaBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        Long[] values = new Long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextLong();
+        }
+        specialList = new SpecialArrayList<>(values);
+        longList = new SpecialLongArrayList();
+        arrayList = new ArrayList<>(size);
+        for (Long value : values) {
+            longList.add(value);
+            arrayList.add(value);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        specialList.writeTo(Channels.newChannel(out), LongCodec.INSTANCE);
+        specialBytes = out.toByteArray();
+
+        out = new ByteArrayOutputStream();
+        longList.writeTo(Channels.newChannel(out));
+        longBytes = out.toByteArray();
+
+        out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(arrayList);
+        }
+        javaBytes = out.toByteArray();
+    }
+
+    @Benchmark
+    public void specialArrayListWrite() {
+        specialList.writeTo(sink, LongCodec.INSTANCE);
+    }
+
+    @Benchmark
+    public void specialLongArrayListWrite() {
+        longList.writeTo(sink);
+    }
+
+    @Benchmark
+    public void javaSerializationWrite() throws IOException {
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(OutputStream.nullOutputStream())) {
+            objectOut.writeObject(arrayList);
+        }
+    }
+
+    @Benchmark
+    public SpecialArrayList<Long> specialArrayListRead() {
+        return SpecialArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(specialBytes)), LongCodec.INSTANCE);
+    }
+
+    @Benchmark
+    public SpecialLongArrayList specialLongArrayListRead() {
+        return SpecialLongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(longBytes)));
+    }
+
+    @Benchmark
+    public Object javaSerializationRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(javaBytes))) {
+            return objectIn.readObject();
+        }
+    }
+}
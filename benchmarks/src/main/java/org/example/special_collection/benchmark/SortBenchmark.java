@@ -0,0 +1,63 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies {@code size} random elements into a fresh list and sorts it,
+ * with the natural order and with a comparator.
+ * The copy is part of every measurement and costs the same for both lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    private static final Comparator<Integer> REVERSE = Comparator.reverseOrder();
+
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayList() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort();
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(values));
+        list.sort(null);
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListComparator() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort(REVERSE);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListComparator() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(values));
+        list.sort(REVERSE);
+        return list;
+    }
+}
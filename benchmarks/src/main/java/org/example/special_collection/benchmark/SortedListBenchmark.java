@@ -0,0 +1,71 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SortedSpecialArrayList;
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds a list of {@code size} elements in batches of 100 and then looks up 1000 keys:
+ * the old way - add the batch, sort the whole list, scan linearly for every key -
+ * compared with a SortedSpecialArrayList merging the batches and searching binarily.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SortedListBenchmark {
+    private static final int BATCH = 100;
+    private static final int LOOKUPS = 1000;
+
+    @Param({"10000", "100000"})
+    public int size;
+
+    private Integer[] values;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+        keys = Arrays.copyOf(BenchmarkData.randomIntegers(size), LOOKUPS);
+    }
+
+    @Benchmark
+    public int sortAfterBatchAndScan() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>();
+        for (int from = 0; from < size; from += BATCH) {
+            list.addAll(Arrays.copyOfRange(values, from, from + BATCH));
+            list.sort();
+        }
+
+        int found = 0;
+        for (Integer key : keys) {
+            for (int i = 0; i < list.size(); i++) {
+                if (list.get(i).equals(key)) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int sortedListMergeAndSearch() {
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>();
+        for (int from = 0; from < size; from += BATCH) {
+            list.addAll(Arrays.copyOfRange(values, from, from + BATCH));
+        }
+
+        int found = 0;
+        for (Integer key : keys) {
+            if (list.contains(key))
+                found++;
+        }
+        return found;
+    }
+}
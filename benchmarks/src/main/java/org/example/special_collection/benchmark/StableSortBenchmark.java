@@ -0,0 +1,59 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code stableSort(Comparator)} with {@code sort(Comparator)} and {@code ArrayList.sort} (TimSort)
+ * on random and on mostly ordered inputs.
+ * As in {@link SortBenchmark}, the copy into a fresh list is part of every measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StableSortBenchmark {
+    private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "NEARLY_SORTED", "APPENDED_BATCH"})
+    public Distribution distribution;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = distribution.generate(size);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListStableSort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.stableSort(NATURAL);
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> specialArrayListSort() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.sort(NATURAL);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayList() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(values));
+        list.sort(NATURAL);
+        return list;
+    }
+}
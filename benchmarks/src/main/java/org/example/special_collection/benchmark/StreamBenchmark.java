@@ -0,0 +1,56 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums {@code size} elements with sequential and parallel streams:
+ * straight from the list's spliterator, through the old copy into an ArrayList,
+ * and from an ArrayList for reference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private SpecialArrayList<Integer> specialList;
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        arrayList = new ArrayList<>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public long specialArrayListStream() {
+        return specialList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long specialArrayListParallelStream() {
+        return specialList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long specialArrayListCopyParallelStream() {
+        List<Object> copy = new ArrayList<>(Arrays.asList(specialList.toArray()));
+        return copy.parallelStream().mapToLong(x -> (Integer) x).sum();
+    }
+
+    @Benchmark
+    public long arrayListParallelStream() {
+        return arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.SpecialSubList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pages through a list of 1M elements in windows of {@code pageSize} and sums every page:
+ * through {@code subList} views, compared with copying every page out first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SubListBenchmark {
+    private static final int SIZE = 1_000_000;
+
+    @Param({"64", "4096"})
+    public int pageSize;
+
+    private SpecialArrayList<Integer> specialList;
+
+    @Setup
+    public void setUp() {
+        specialList = new SpecialArrayList<>(BenchmarkData.randomIntegers(SIZE));
+    }
+
+    @Benchmark
+    public long subListPages() {
+        long sum = 0;
+        for (int from = 0; from < SIZE; from += pageSize) {
+            SpecialSubList<Integer> page = specialList.subList(from, Math.min(from + pageSize, SIZE));
+            for (int i = 0; i < page.size(); i++) {
+                sum += page.get(i);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long copiedPages() {
+        long sum = 0;
+        Object[] all = specialList.toArray();
+        for (int from = 0; from < SIZE; from += pageSize) {
+            Object[] page = Arrays.copyOfRange(all, from, Math.min(from + pageSize, SIZE));
+            for (Object value : page) {
+                sum += (Integer) value;
+            }
+        }
+        return sum;
+    }
+}
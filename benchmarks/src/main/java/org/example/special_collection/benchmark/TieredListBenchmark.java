@@ -0,0 +1,88 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.SpecialTieredArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SpecialTieredArrayList} with {@link SpecialArrayList}:
+ * growth from empty to {@code size} elements, an insertion in the middle
+ * (followed by removing the last element to keep the size) and a full scan with {@code get(int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TieredListBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"1024"})
+    public int blockSize;
+
+    private Integer[] values;
+    private SpecialArrayList<Integer> specialList;
+    private SpecialTieredArrayList<Integer> tieredList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        tieredList = new SpecialTieredArrayList<>(blockSize);
+        tieredList.addAll(values);
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> growSpecialArrayList() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialTieredArrayList<Integer> growTiered() {
+        SpecialTieredArrayList<Integer> list = new SpecialTieredArrayList<>(blockSize);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public SpecialArrayList<Integer> insertMiddleSpecialArrayList() {
+        specialList.add(size / 2, 42);
+        specialList.remove(specialList.size() - 1);
+        return specialList;
+    }
+
+    @Benchmark
+    public SpecialTieredArrayList<Integer> insertMiddleTiered() {
+        tieredList.add(size / 2, 42);
+        tieredList.remove(tieredList.size() - 1);
+        return tieredList;
+    }
+
+    @Benchmark
+    public long scanSpecialArrayList() {
+        long sum = 0;
+        for (int i = 0; i < specialList.size(); i++) {
+            sum += specialList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanTiered() {
+        long sum = 0;
+        for (int i = 0; i < tieredList.size(); i++) {
+            sum += tieredList.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.special_collection.benchmark;
+
+import org.example.special_collection.SpecialArrayList;
+import org.example.special_collection.SpecialArrayListSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies a list of {@code size} elements out with {@code toArray()} and {@code toArray(T[])},
+ * compared with taking a copy-on-write {@code snapshot()}, which copies nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ToArrayBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private SpecialArrayList<Integer> specialList;
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.randomIntegers(size);
+        specialList = new SpecialArrayList<>(values);
+        arrayList = new ArrayList<>(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public Object[] specialArrayList() {
+        return specialList.toArray();
+    }
+
+    @Benchmark
+    public SpecialArrayListSnapshot<Integer> specialArrayListSnapshot() {
+        return specialList.snapshot();
+    }
+
+    @Benchmark
+    public Object[] arrayList() {
+        return arrayList.toArray();
+    }
+
+    @Benchmark
+    public Integer[] specialArrayListTyped() {
+        return specialList.toArray(new Integer[0]);
+    }
+
+    @Benchmark
+    public Integer[] arrayListTyped() {
+        return arrayList.toArray(new Integer[0]);
+    }
+}
@@ -0,0 +1,285 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free append-only list for many producers.
+ * A producer reserves a slot with one {@code getAndIncrement} on a counter
+ * and writes the element into a lazily allocated chunk, so appending never takes a lock
+ * and growing never copies elements: chunks are only added.
+ * Readers see the published prefix: every element before {@link #size()} is written and visible.
+ * Elements are consumed by {@link #drainTo(SpecialArrayList)}, which releases the drained chunks.
+ * Indexes are positions in the append order and are not shifted by draining.
+ * Null elements are not allowed: a null slot is one that is reserved but not written yet.
+ *
+ * @param <T> the type of stored elements.
+ */
+public class AppendOnlySpecialList<T> {
+    /**
+     * Size of the first chunk; every next chunk is twice as large as the previous one.
+     */
+    static final int FIRST_CHUNK_SHIFT = 5;
+    /**
+     * With 26 chunks the list holds {@code 2^31 - 32} elements.
+     */
+    static final int CHUNK_COUNT = 31 - FIRST_CHUNK_SHIFT;
+    /**
+     * The maximal number of elements that can be appended.
+     */
+    public static final int MAX_SIZE = Integer.MAX_VALUE - (1 << FIRST_CHUNK_SHIFT) + 1;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final AtomicReferenceArray<Object[]> chunks = new AtomicReferenceArray<>(CHUNK_COUNT);
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicInteger published = new AtomicInteger();
+    private volatile int drained = 0;
+    private final int maxSize;
+
+    /**
+     * Default constructor.
+     * The first chunk holds 32 elements, each next one is twice as large.
+     */
+    public AppendOnlySpecialList() {
+        this(MAX_SIZE);
+    }
+
+    /**
+     * Constructor with a lower limit of elements, so tests can reach the limit.
+     */
+    AppendOnlySpecialList(int maxSize) {
+        this.maxSize = maxSize;
+        chunks.set(0, new Object[1 << FIRST_CHUNK_SHIFT]);
+    }
+
+    /**
+     * Adds an element to the end of the list without locking.
+     *
+     * @param obj the object to be added.
+     * @throws NullParamException if the provided parameter is null.
+     * @throws CapacityException  if the list already holds {@link #MAX_SIZE} elements.
+     */
+    public void add(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+
+        long index = reserved.getAndIncrement();
+        if (index >= maxSize)
+            throw new CapacityException(maxSize + 1, maxSize);
+
+        write((int) index, obj);
+    }
+
+    /**
+     * Adds all specified elements to the end of the list without locking.
+     * The elements get consecutive indexes: the slots are reserved by one compare-and-set,
+     * only if all of them fit, so a failed call reserves nothing.
+     *
+     * @param externalArr the elements to be added.
+     * @throws NullParamException if the provided array or any of its elements is null.
+     * @throws CapacityException  if the elements do not fit into {@link #MAX_SIZE}.
+     */
+    public void addAll(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+        for (T obj : externalArr) {
+            if (obj == null)
+                throw new NullParamException();
+        }
+        if (externalArr.length == 0)
+            return;
+
+        //резервируем слоты, только если влезают все: незаписанный слот навсегда остановил бы size()
+        long first;
+        do {
+            first = reserved.get();
+            if (first + externalArr.length > maxSize)
+                throw new CapacityException((int) Math.min(first + externalArr.length, Integer.MAX_VALUE), maxSize);
+        } while (!reserved.compareAndSet(first, first + externalArr.length));
+
+        for (int i = 0; i < externalArr.length; i++) {
+            write((int) first + i, externalArr[i]);
+        }
+    }
+
+    /**
+     * Retrieves a published element by index, without locking.
+     *
+     * @param index the position of the element in the append order.
+     * @return the element at the specified position.
+     * @throws IndexOutOfRangeException if the element is not published yet or has already been drained.
+     */
+    public T get(int index) {
+        int size = size();
+        if (index < drained || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        Object[] chunk = chunks.get(chunkIndex(index));
+        Object element = chunk == null ? null : SLOT.getAcquire(chunk, offset(index));
+        //элемент мог быть слит между проверкой и чтением
+        if (element == null)
+            throw new IndexOutOfRangeException(size, index);
+        return (T) element;
+    }
+
+    /**
+     * Returns the length of the published prefix: the number of elements appended so far,
+     * all of which are written and visible. Drained elements are counted too.
+     * Elements whose slots are reserved but not written yet are not counted,
+     * and neither is anything after them.
+     *
+     * @return the number of published elements.
+     */
+    public int size() {
+        int current = published.get();
+        while (true) {
+            int limit = (int) Math.min(reserved.get(), maxSize);
+            int next = current;
+            while (next < limit && isWritten(next)) {
+                next++;
+            }
+            if (next == current)
+                return current;
+
+            //продвигаем границу опубликованного префикса; при гонке берём чужой результат
+            if (published.compareAndSet(current, next))
+                current = next;
+            else
+                current = published.get();
+        }
+    }
+
+    /**
+     * Returns the number of elements moved out by {@link #drainTo(SpecialArrayList)}.
+     * The elements before this index are no longer available.
+     *
+     * @return the number of drained elements.
+     */
+    public int drainedCount() {
+        return drained;
+    }
+
+    /**
+     * Checks if there are no published elements that are not drained yet.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size() == drained;
+    }
+
+    /**
+     * Moves the published elements that were not drained yet to the end of the specified list,
+     * in the append order, and releases the chunks that are drained completely.
+     * Producers are not blocked; drains are serialized with each other and with {@link #toArray()}.
+     *
+     * @param target the list that receives the elements.
+     * @return the number of moved elements.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public synchronized int drainTo(SpecialArrayList<? super T> target) {
+        if (target == null)
+            throw new NullParamException();
+
+        int from = drained;
+        int to = size();
+        if (from == to)
+            return 0;
+
+        Object[] values = copyRange(from, to);
+        ((SpecialArrayList<Object>) target).addAll(values);
+
+        for (int index = from; index < to; index++) {
+            SLOT.setRelease(chunks.get(chunkIndex(index)), offset(index), null);
+        }
+        drained = to;
+        for (int chunk = chunkIndex(from); chunk < CHUNK_COUNT && chunkEnd(chunk) <= to; chunk++) {
+            chunks.set(chunk, null);
+        }
+        return to - from;
+    }
+
+    /**
+     * Returns a copy of the published elements that were not drained yet, in the append order.
+     *
+     * @return a new array with the available elements.
+     */
+    public synchronized Object[] toArray() {
+        return copyRange(drained, size());
+    }
+
+    //private methods
+    private void write(int index, T obj) {
+        int chunkIndex = chunkIndex(index);
+        int offset = offset(index);
+
+        //первый писатель в блоке заранее создаёт следующий, чтобы остальные не ждали выделения памяти
+        if (offset == 0 && chunkIndex + 1 < CHUNK_COUNT)
+            chunk(chunkIndex + 1);
+
+        SLOT.setRelease(chunk(chunkIndex), offset, obj);
+    }
+
+    private Object[] chunk(int chunkIndex) {
+        Object[] chunk = chunks.get(chunkIndex);
+        if (chunk != null)
+            return chunk;
+
+        Object[] created = new Object[1 << (chunkIndex + FIRST_CHUNK_SHIFT)];
+        if (chunks.compareAndSet(chunkIndex, null, created))
+            return created;
+        return chunks.get(chunkIndex);
+    }
+
+    private boolean isWritten(int index) {
+        Object[] chunk = chunks.get(chunkIndex(index));
+        return chunk != null && SLOT.getAcquire(chunk, offset(index)) != null;
+    }
+
+    private Object[] copyRange(int from, int to) {
+        Object[] values = new Object[to - from];
+        int index = from;
+        while (index < to) {
+            int chunkIndex = chunkIndex(index);
+            int length = Math.min(to, chunkEnd(chunkIndex)) - index;
+            System.arraycopy(chunks.get(chunkIndex), offset(index), values, index - from, length);
+            index += length;
+        }
+        return values;
+    }
+
+    /**
+     * Chunk {@code k} holds {@code 32 << k} elements, starting at index {@code (32 << k) - 32}.
+     */
+    private static int chunkIndex(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + (1 << FIRST_CHUNK_SHIFT)) - FIRST_CHUNK_SHIFT;
+    }
+
+    private static int offset(int index) {
+        int position = index + (1 << FIRST_CHUNK_SHIFT);
+        return position ^ Integer.highestOneBit(position);
+    }
+
+    private static int chunkEnd(int chunkIndex) {
+        return (int) ((1L << (chunkIndex + FIRST_CHUNK_SHIFT + 1)) - (1 << FIRST_CHUNK_SHIFT));
+    }
+
+    /**
+     * Describes the current object and the available elements.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "AppendOnlySpecialList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
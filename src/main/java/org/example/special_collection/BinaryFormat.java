@@ -0,0 +1,159 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.FileFormatException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary format of lists, written and read through NIO channels in chunks of 64 KiB.
+ * <p>
+ * Layout: a header of {@value #HEADER_SIZE} bytes (magic number, codec id, record width, size),
+ * {@code size} fixed-width records, and a CRC32 of everything before it.
+ * The checksum goes last, so the list is written in one pass and the channel does not have to be seekable.
+ */
+final class BinaryFormat {
+    static final int MAGIC = 0x53414C31;
+    static final int HEADER_SIZE = 16;
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * Fills a chunk with {@code count} records starting from the element {@code from},
+     * using absolute positions from zero.
+     */
+    interface ChunkWriter {
+        void put(ByteBuffer chunk, int from, int count);
+    }
+
+    /**
+     * Decodes {@code count} records of a chunk, read from absolute positions from zero,
+     * into the target starting from the element {@code from}.
+     */
+    interface ChunkReader<R> {
+        void get(ByteBuffer chunk, R target, int from, int count);
+    }
+
+    static void write(WritableByteChannel channel, int codecId, int width, int size, ChunkWriter writer) {
+        CRC32 crc = new CRC32();
+        int perChunk = Math.max(1, CHUNK_SIZE / width);
+        ByteBuffer chunk = ByteBuffer.allocate(Math.max(HEADER_SIZE, perChunk * width));
+
+        chunk.putInt(MAGIC).putInt(codecId).putInt(width).putInt(size).flip();
+        writeChunk(channel, chunk, crc);
+        for (int from = 0; from < size; from += perChunk) {
+            int count = Math.min(perChunk, size - from);
+            chunk.clear();
+            writer.put(chunk, from, count);
+            chunk.limit(count * width);
+            writeChunk(channel, chunk, crc);
+        }
+
+        chunk.clear();
+        chunk.putInt((int) crc.getValue()).flip();
+        writeFully(channel, chunk);
+    }
+
+    /**
+     * Reads a list written by {@link #write}. The target, an array created by {@code allocate},
+     * is grown as the chunks arrive, so a damaged size in the header can not allocate more than the data holds;
+     * a seekable channel is checked against its length and the target is created at once.
+     */
+    static <R> R read(ReadableByteChannel channel, int codecId, int width, IntFunction<R> allocate, ChunkReader<R> reader) {
+        CRC32 crc = new CRC32();
+        int perChunk = Math.max(1, CHUNK_SIZE / width);
+        ByteBuffer chunk = ByteBuffer.allocate(Math.max(HEADER_SIZE, perChunk * width));
+
+        chunk.limit(HEADER_SIZE);
+        readChunk(channel, chunk, crc);
+        if (chunk.getInt(0) != MAGIC)
+            throw new FileFormatException("Wrong magic number.");
+        if (chunk.getInt(4) != codecId)
+            throw new FileFormatException(String.format("Written by codec %d, but read by codec %d.", chunk.getInt(4), codecId));
+        if (chunk.getInt(8) != width)
+            throw new FileFormatException(String.format("Records are %d bytes, but the codec reads %d.", chunk.getInt(8), width));
+        int size = chunk.getInt(12);
+        if (size < 0)
+            throw new FileFormatException(String.format("Wrong size %d.", size));
+
+        //размер из заголовка ещё не проверен CRC: память выделяется только под реально прочитанные записи
+        int capacity = Math.min(size, perChunk);
+        if (channel instanceof SeekableByteChannel) {
+            checkRemaining((SeekableByteChannel) channel, (long) size * width + Integer.BYTES);
+            capacity = size;
+        }
+        R target = allocate.apply(capacity);
+        for (int from = 0; from < size; from += perChunk) {
+            int count = Math.min(perChunk, size - from);
+            chunk.clear().limit(count * width);
+            readChunk(channel, chunk, crc);
+            if (from + count > capacity) {
+                capacity = (int) Math.min(size, Math.max(2L * capacity, from + count));
+                R grown = allocate.apply(capacity);
+                System.arraycopy(target, 0, grown, 0, from);
+                target = grown;
+            }
+            reader.get(chunk, target, from, count);
+        }
+
+        chunk.clear().limit(Integer.BYTES);
+        readFully(channel, chunk);
+        if (chunk.getInt(0) != (int) crc.getValue())
+            throw new FileFormatException("Checksum mismatch.");
+        return target;
+    }
+
+    //private methods
+    private static void checkRemaining(SeekableByteChannel channel, long needed) {
+        try {
+            if (channel.size() - channel.position() < needed)
+                throw new FileFormatException("The data is truncated.");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeChunk(WritableByteChannel channel, ByteBuffer chunk, CRC32 crc) {
+        crc.update(chunk);
+        chunk.rewind();
+        writeFully(channel, chunk);
+    }
+
+    private static void readChunk(ReadableByteChannel channel, ByteBuffer chunk, CRC32 crc) {
+        readFully(channel, chunk);
+        crc.update(chunk);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fills the buffer up to its limit and flips it back to position zero.
+     */
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0)
+                    throw new FileFormatException("The data is truncated.");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,480 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.example.special_collection.growth.GeometricGrowthPolicy;
+import org.example.special_collection.growth.GrowthPolicy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe implementation of an ArrayList.
+ * Reads ({@code get}, {@code size}, {@code toArray}) are optimistic: they take no lock
+ * and are retried under a read lock only if a writer interfered,
+ * so readers never block each other and rarely block behind writers.
+ * Mutations are serialized by the write lock of a {@link StampedLock}.
+ * Compound operations ({@link #addIfAbsent(Object)}, {@link #replace(int, Object, Object)}) are atomic.
+ *
+ * @param <T> the type of stored elements.
+ */
+public class ConcurrentSpecialArrayList<T> {
+    private final StampedLock lock = new StampedLock();
+    private final GrowthPolicy growthPolicy;
+    private T[] arr;
+    private int size = 0;
+
+    /**
+     * Default constructor.
+     * The initial array size is set to 10.
+     * By default, when the specified size is exceeded,
+     * the array is increased by 1.5 times.
+     */
+    public ConcurrentSpecialArrayList() {
+        this(10);
+    }
+
+    /**
+     * Constructor with a specified default size.
+     * When the specified size is exceeded, the array is increased by 1.5 times.
+     *
+     * @param capacity the size of the array to be created.
+     * @throws CapacityException if the specified size is less than zero.
+     */
+    public ConcurrentSpecialArrayList(int capacity) {
+        this(capacity, new GeometricGrowthPolicy(1.5));
+    }
+
+    /**
+     * Constructor with a specified default size and growth policy.
+     *
+     * @param capacity     the size of the array to be created.
+     * @param growthPolicy the policy that decides how the array grows and shrinks.
+     * @throws CapacityException  if the specified size is less than zero.
+     * @throws NullParamException if the provided policy is null.
+     */
+    public ConcurrentSpecialArrayList(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0)
+            throw new CapacityException(capacity);
+        if (growthPolicy == null)
+            throw new NullParamException();
+
+        this.growthPolicy = growthPolicy;
+        this.arr = createArr(capacity);
+    }
+
+    /**
+     * Adds an element to the end of the array.
+     *
+     * @param obj the object to be added.
+     */
+    public void add(T obj) {
+        long stamp = lock.writeLock();
+        try {
+            append(obj);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds an element to the array at the specified index,
+     * shifting elements starting from this index one position towards the end of the array.
+     *
+     * @param index the position where the element should be added.
+     * @param obj   the object to be added.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void add(int index, T obj) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size)
+                throw new IndexOutOfRangeException(size, index);
+
+            if (size == arr.length)
+                resizeArray(growthPolicy.grow(arr.length, size + 1));
+
+            System.arraycopy(arr, index, arr, index + 1, size - index);
+            arr[index] = obj;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds an element to the end of the array, if the collection does not contain an equal element.
+     * The check and the addition are one atomic operation.
+     *
+     * @param obj the object to be added.
+     * @return true if the element was added.
+     */
+    public boolean addIfAbsent(T obj) {
+        //сначала ищем без блокировки - если элемент уже есть, писатели не блокируются
+        long stamp = lock.tryOptimisticRead();
+        T[] currentArr = arr;
+        int currentSize = Math.min(size, currentArr.length);
+        boolean found = indexOf(currentArr, currentSize, obj) >= 0;
+        if (found && lock.validate(stamp))
+            return false;
+
+        stamp = lock.writeLock();
+        try {
+            if (indexOf(arr, size, obj) >= 0)
+                return false;
+
+            append(obj);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds all specified elements to the end of the array, as one atomic operation.
+     *
+     * @param externalArr the elements to be added.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public void addAll(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        appendAll(externalArr);
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the array, as one atomic operation.
+     *
+     * @param collection the elements to be added.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public void addAll(Collection<? extends T> collection) {
+        if (collection == null)
+            throw new NullParamException();
+
+        appendAll(collection.toArray());
+    }
+
+    /**
+     * Retrieves an element by index.
+     * Takes no lock unless a writer modifies the collection at the same time.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return the element of the type corresponding to the collection's type.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        T[] currentArr = arr;
+        int currentSize = size;
+        //массив и размер могли быть прочитаны из разных версий - проверяем обе границы
+        T element = index >= 0 && index < currentSize && index < currentArr.length ? currentArr[index] : null;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                element = index >= 0 && index < currentSize ? arr[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (index < 0 || index >= currentSize)
+            throw new IndexOutOfRangeException(currentSize, index);
+        return element;
+    }
+
+    /**
+     * Removes an element by index,
+     * shifting elements to the right of the index one position to the left.
+     *
+     * @param index the index of the element to be removed.
+     * @return the removed element.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfRangeException(size, index);
+
+            T removed = arr[index];
+            System.arraycopy(arr, index + 1, arr, index, size - index - 1);
+            arr[--size] = null;
+            shrinkArray();
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position.
+     *
+     * @param index the position of the element to be replaced.
+     * @param obj   the object to replace the element with.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void replace(int index, T obj) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfRangeException(size, index);
+
+            arr[index] = obj;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position only if it is currently equal to the expected one.
+     * The check and the replacement are one atomic operation.
+     *
+     * @param index    the position of the element to be replaced.
+     * @param expected the element expected at the position.
+     * @param obj      the object to replace the element with.
+     * @return true if the element was replaced.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public boolean replace(int index, T expected, T obj) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfRangeException(size, index);
+            if (!Objects.equals(arr[index], expected))
+                return false;
+
+            arr[index] = obj;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Clears the collection.
+     * This does not reduce the size of the underlying array,
+     * unless the growth policy shrinks automatically.
+     */
+    public void clean() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(arr, 0, size, null);
+            size = 0;
+            shrinkArray();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the elements of the array, holding the write lock for the whole sort.
+     * Array have to be without null elements.
+     *
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement the Comparable interface.
+     * @throws SortNullElementException if the collection contains null elements.
+     */
+    public void sort() {
+        long stamp = lock.writeLock();
+        try {
+            if (!(size > 0 && arr[0] instanceof Comparable))
+                throw new NotComparableException();
+            if (hasNull())
+                throw new SortNullElementException();
+
+            Sorting.introsort(arr, 0, size - 1, naturalOrder());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the elements of the array using the comparator, holding the write lock for the whole sort.
+     * Array have to be without null elements.
+     *
+     * @param comparator the comparator used for comparing elements.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if the collection contains null elements.
+     */
+    public void sort(Comparator<T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+
+        long stamp = lock.writeLock();
+        try {
+            if (hasNull())
+                throw new SortNullElementException();
+
+            Sorting.introsort(arr, 0, size - 1, comparator);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the collection. Takes no lock unless a writer interferes.
+     *
+     * @return the number of elements in the collection.
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a consistent snapshot of the collection's elements.
+     * The copy is made optimistically and repeated under the read lock if a writer interfered.
+     *
+     * @return a new array with the elements of the collection.
+     */
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        T[] currentArr = arr;
+        Object[] snapshot = Arrays.copyOf(currentArr, Math.min(size, currentArr.length), Object[].class);
+        if (lock.validate(stamp))
+            return snapshot;
+
+        stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(arr, size, Object[].class);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the size of the internal array.
+     *
+     * @return the number of elements the collection can hold without expanding.
+     */
+    public int capacity() {
+        long stamp = lock.readLock();
+        try {
+            return arr.length;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //private methods
+    private void append(T obj) {
+        if (size == arr.length)
+            resizeArray(growthPolicy.grow(arr.length, size + 1));
+
+        arr[size++] = obj;
+    }
+
+    private void appendAll(Object[] values) {
+        long stamp = lock.writeLock();
+        try {
+            if (size + values.length > arr.length)
+                resizeArray(growthPolicy.grow(arr.length, size + values.length));
+
+            System.arraycopy(values, 0, arr, size, values.length);
+            size += values.length;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private boolean hasNull() {
+        for (int i = 0; i < size; i++) {
+            if (arr[i] == null)
+                return true;
+        }
+        return false;
+    }
+
+    private void shrinkArray() {
+        int capacity = growthPolicy.shrink(arr.length, size);
+        if (capacity < arr.length)
+            resizeArray(Math.max(capacity, size));
+    }
+
+    private void resizeArray(int capacity) {
+        T[] newArr = createArr(capacity);
+        System.arraycopy(arr, 0, newArr, 0, size);
+        this.arr = newArr;
+    }
+
+    private static int indexOf(Object[] arr, int size, Object obj) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(arr[i], obj))
+                return i;
+        }
+        return -1;
+    }
+
+    private static <T> Comparator<T> naturalOrder() {
+        return (Comparator<T>) (Comparator<?>) Comparator.naturalOrder();
+    }
+
+    private static <T> T[] createArr(int capacity) {
+        if (capacity < 0)
+            throw new CapacityException(capacity);
+
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Comparing elements from this object with elements form obj, using snapshots of both collections.
+     *
+     * @param obj the object we want to compare with.
+     * @return true - if both objects contain the same elements, false - if elements has differences
+     */
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ConcurrentSpecialArrayList)) return false;
+
+        ConcurrentSpecialArrayList<?> that = (ConcurrentSpecialArrayList<?>) obj;
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Returns a hash code value of this object.
+     * The value is calculated by a snapshot of the stored elements
+     *
+     * @return a hash code value of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "ConcurrentSpecialArrayList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.special_collection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the memory of direct (and mapped) buffers immediately, instead of waiting for the GC.
+ * Uses {@code sun.misc.Unsafe.invokeCleaner}, found by reflection; if it is not available,
+ * the buffer is left to the GC, which frees it when it becomes unreachable.
+ */
+final class DirectMemory {
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            //нет доступа к Unsafe - память освободит сборщик мусора
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectMemory() {
+    }
+
+    /**
+     * Releases the memory of the buffer. The buffer must not be used afterwards.
+     *
+     * @param buffer a direct buffer, which is not a slice or a duplicate of another one.
+     * @return true if the memory was released now, false if it is left to the GC.
+     */
+    static boolean free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || !buffer.isDirect())
+            return false;
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
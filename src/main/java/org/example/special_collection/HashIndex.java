@@ -0,0 +1,119 @@
+package org.example.special_collection;
+
+import java.util.HashMap;
+
+/**
+ * Secondary index of a {@link SpecialArrayList}: maps every element to its first and last position
+ * and the number of its occurrences. Appending, removing the last element and replacing are applied
+ * incrementally; any other structural change only makes the index stale,
+ * and it is rebuilt in one pass on the next lookup.
+ */
+final class HashIndex {
+    private final HashMap<Object, Entry> entries = new HashMap<>();
+    //modCount списка, которому соответствует индекс
+    private int modCount;
+    private boolean valid = false;
+
+    /**
+     * @return true if the index describes the list with this modification count.
+     */
+    boolean isValid(int listModCount) {
+        return valid && modCount == listModCount;
+    }
+
+    void rebuild(Object[] arr, int size, int listModCount) {
+        entries.clear();
+        for (int i = 0; i < size; i++) {
+            append(arr[i], i);
+        }
+        modCount = listModCount;
+        valid = true;
+    }
+
+    /**
+     * The element was appended at {@code index}, which changed the modification count to {@code listModCount}.
+     */
+    void added(Object obj, int index, int listModCount) {
+        if (!isValid(listModCount - 1))
+            return;
+
+        append(obj, index);
+        modCount = listModCount;
+    }
+
+    /**
+     * The last element, at {@code index}, was removed, which changed the modification count to {@code listModCount}.
+     */
+    void removedLast(Object obj, int index, int listModCount) {
+        if (!isValid(listModCount - 1))
+            return;
+
+        modCount = listModCount;
+        detach(obj, index);
+    }
+
+    /**
+     * The element at {@code index} was replaced; replacing is not a structural change.
+     */
+    void replaced(int index, Object old, Object obj, int listModCount) {
+        if (!isValid(listModCount))
+            return;
+
+        detach(old, index);
+        if (!valid)
+            return;
+
+        Entry entry = entries.get(obj);
+        if (entry == null) {
+            append(obj, index);
+        } else {
+            entry.first = Math.min(entry.first, index);
+            entry.last = Math.max(entry.last, index);
+            entry.count++;
+        }
+    }
+
+    /**
+     * @return the first position of the element, or -1.
+     */
+    int first(Object obj) {
+        Entry entry = entries.get(obj);
+        return entry == null ? -1 : entry.first;
+    }
+
+    /**
+     * @return the last position of the element, or -1.
+     */
+    int last(Object obj) {
+        Entry entry = entries.get(obj);
+        return entry == null ? -1 : entry.last;
+    }
+
+    //private methods
+    private void append(Object obj, int index) {
+        Entry entry = entries.get(obj);
+        if (entry == null) {
+            entry = new Entry();
+            entry.first = index;
+            entries.put(obj, entry);
+        }
+        entry.last = index;
+        entry.count++;
+    }
+
+    private void detach(Object obj, int index) {
+        Entry entry = entries.get(obj);
+        if (--entry.count == 0) {
+            entries.remove(obj);
+        } else if (index == entry.first || index == entry.last) {
+            //следующая позиция неизвестна без прохода по массиву
+            valid = false;
+        }
+    }
+
+    private static final class Entry {
+        int first;
+        int last;
+        int count;
+    }
+}
@@ -0,0 +1,436 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.ElementCodec;
+import org.example.special_collection.exception.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * List whose elements live in a data file.
+ * Elements are encoded by an {@link ElementCodec} into fixed-width records
+ * stored in segments of the file mapped into memory, so the list survives a restart:
+ * {@link #open(Path, ElementCodec)} on an existing file only maps it, nothing is read or decoded.
+ * The list grows by mapping extra segments; records never cross segments.
+ * The list is append-oriented and is not thread-safe. Null elements are not allowed.
+ * <p>
+ * File layout: a header of {@value #HEADER_SIZE} bytes
+ * (magic number, record width, records per segment as a power of two, size),
+ * followed by the segments.
+ * The size in the header is written only by {@link #force()}, after the records, and by {@link #close()};
+ * records added after the last of them are not seen when the file is reopened after the process dies.
+ * {@link #force()} makes the records and the size durable against a crash of the system.
+ *
+ * @param <T> the type of stored elements.
+ */
+public class MappedSpecialList<T> implements AutoCloseable {
+    /**
+     * Default size of one segment: 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+    /**
+     * The header takes a whole memory page, so the segments are page-aligned.
+     */
+    static final int HEADER_SIZE = 4096;
+    static final int MAGIC = 0x53504C31;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SHIFT_OFFSET = 8;
+    static final int SIZE_OFFSET = 16;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final Segments segments;
+    private final Cleaner.Cleanable cleanable;
+    private int size;
+
+    private MappedSpecialList(ElementCodec<T> codec, Segments segments, int segmentShift, int size) {
+        this.codec = codec;
+        this.width = codec.width();
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.segments = segments;
+        this.size = size;
+        segments.size = size;
+        this.cleanable = CLEANER.register(this, segments);
+    }
+
+    /**
+     * Opens the list stored in the file, or creates an empty one if the file does not exist or is empty.
+     * New files get segments of 64 MiB.
+     *
+     * @param path  the data file.
+     * @param codec the codec of elements.
+     * @param <T>   the type of stored elements.
+     * @return the opened list.
+     * @throws NullParamException   if any of the provided parameters is null.
+     * @throws FileFormatException  if the file holds something else or records of another width.
+     * @throws UncheckedIOException if the file can not be opened or mapped.
+     */
+    public static <T> MappedSpecialList<T> open(Path path, ElementCodec<T> codec) {
+        return open(path, codec, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the list stored in the file, or creates an empty one if the file does not exist or is empty.
+     * The segment size applies to new files only; an existing file keeps the segments it was created with.
+     *
+     * @param path        the data file.
+     * @param codec       the codec of elements.
+     * @param segmentSize the maximal size of one segment in bytes.
+     * @param <T>         the type of stored elements.
+     * @return the opened list.
+     * @throws NullParamException   if the path or the codec is null.
+     * @throws CapacityException    if a segment can not hold a single record.
+     * @throws FileFormatException  if the file holds something else or records of another width.
+     * @throws UncheckedIOException if the file can not be opened or mapped.
+     */
+    public static <T> MappedSpecialList<T> open(Path path, ElementCodec<T> codec, int segmentSize) {
+        if (path == null || codec == null)
+            throw new NullParamException();
+        int width = codec.width();
+        if (width <= 0)
+            throw new CapacityException(width);
+        if (segmentSize < width)
+            throw new CapacityException(segmentSize, width - 1);
+
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+            long fileSize = channel.size();
+            if (fileSize != 0 && fileSize < HEADER_SIZE)
+                throw new FileFormatException("The header is truncated.");
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            int shift;
+            int size;
+            if (fileSize == 0) {
+                shift = 31 - Integer.numberOfLeadingZeros(segmentSize / width);
+                size = 0;
+                header.putInt(MAGIC_OFFSET, MAGIC);
+                header.putInt(WIDTH_OFFSET, width);
+                header.putInt(SHIFT_OFFSET, shift);
+                header.putLong(SIZE_OFFSET, size);
+            } else {
+                shift = header.getInt(SHIFT_OFFSET);
+                long storedSize = header.getLong(SIZE_OFFSET);
+                if (header.getInt(MAGIC_OFFSET) != MAGIC)
+                    throw new FileFormatException("Wrong magic number.");
+                if (header.getInt(WIDTH_OFFSET) != width)
+                    throw new FileFormatException(String.format("Records are %d bytes, but the codec writes %d.", header.getInt(WIDTH_OFFSET), width));
+                if (shift < 0 || shift > 30 || ((long) width << shift) > Integer.MAX_VALUE)
+                    throw new FileFormatException(String.format("Wrong segment shift %d.", shift));
+                if (storedSize < 0 || storedSize > Integer.MAX_VALUE)
+                    throw new FileFormatException(String.format("Wrong size %d.", storedSize));
+
+                size = (int) storedSize;
+                long segmentCount = ((long) size + (1 << shift) - 1) >>> shift;
+                if (fileSize < HEADER_SIZE + segmentCount * ((long) width << shift))
+                    throw new FileFormatException("The data is truncated.");
+            }
+
+            MappedSpecialList<T> list = new MappedSpecialList<>(codec, new Segments(channel, header), shift, size);
+            list.ensureSegments(size);
+            return list;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds an element to the end of the list, mapping a new segment if needed.
+     *
+     * @param obj the object to be added.
+     * @throws NullParamException   if the provided parameter is null.
+     * @throws ClosedListException  if the list is closed.
+     * @throws UncheckedIOException if the file can not be extended.
+     */
+    public void add(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+        checkOpen();
+
+        try {
+            ensureSegments(size + 1);
+            codec.write(obj, segment(size), offset(size));
+            setSize(size + 1);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Adds all specified elements to the end of the list.
+     * The size in the header is updated once, after all records are written.
+     *
+     * @param externalArr the elements to be added.
+     * @throws NullParamException   if the provided array or any of its elements is null.
+     * @throws ClosedListException  if the list is closed.
+     * @throws UncheckedIOException if the file can not be extended.
+     */
+    public void addAll(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+        for (T obj : externalArr) {
+            if (obj == null)
+                throw new NullParamException();
+        }
+        checkOpen();
+
+        try {
+            ensureSegments(size + externalArr.length);
+            int index = size;
+            for (T obj : externalArr) {
+                codec.write(obj, segment(index), offset(index));
+                index++;
+            }
+            setSize(index);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Decodes an element by index.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return a new object decoded from the record.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+        checkOpen();
+
+        try {
+            return codec.read(segment(index), offset(index));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position.
+     *
+     * @param index the position of the element to be replaced.
+     * @param obj   the object to replace the element with.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public void replace(int index, T obj) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+        if (obj == null)
+            throw new NullParamException();
+        checkOpen();
+
+        try {
+            codec.write(obj, segment(index), offset(index));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Removes the last element.
+     *
+     * @throws IndexOutOfRangeException if the list is empty.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public void removeLast() {
+        if (size == 0)
+            throw new IndexOutOfRangeException(size, -1);
+        checkOpen();
+
+        setSize(size - 1);
+    }
+
+    /**
+     * Clears the list. The file keeps its length and the mapped segments are reused.
+     *
+     * @throws ClosedListException if the list is closed.
+     */
+    public void clean() {
+        checkOpen();
+
+        setSize(0);
+    }
+
+    /**
+     * Writes the changed records to the storage device, then the size into the header, and then the header.
+     * The size is written only after the records are durable, so the stored size never covers records
+     * that are not written yet.
+     *
+     * @throws ClosedListException if the list is closed.
+     */
+    public void force() {
+        checkOpen();
+
+        try {
+            for (int i = 0; i < segments.count; i++) {
+                segments.buffers[i].force();
+            }
+            segments.header.putLong(SIZE_OFFSET, size);
+            segments.header.force();
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Decodes all elements into a new heap array.
+     *
+     * @return a new array of {@code size()} elements.
+     * @throws ClosedListException if the list is closed.
+     */
+    public Object[] toArray() {
+        checkOpen();
+
+        try {
+            Object[] result = new Object[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = codec.read(segment(i), offset(i));
+            }
+            return result;
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Writes the size into the header, unmaps the file and closes it,
+     * without forcing the records or the header to the storage device.
+     * The list can not be used afterwards; the data stays in the file.
+     * Calling close more than once has no effect.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+        size = 0;
+    }
+
+    //private methods
+    //Cleaner снимает отображение сразу, поэтому методы, читающие сегмент или заголовок, держат список достижимым до выхода
+    private MappedByteBuffer segment(int index) {
+        return segments.buffers[index >>> segmentShift];
+    }
+
+    private int offset(int index) {
+        return (index & segmentMask) * width;
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        //в заголовок размер попадает только в force() и при закрытии
+        segments.size = newSize;
+    }
+
+    private void checkOpen() {
+        if (segments.closed)
+            throw new ClosedListException();
+    }
+
+    private void ensureSegments(int capacity) {
+        int needed = (int) (((long) capacity + segmentMask) >>> segmentShift);
+        if (needed > segments.buffers.length)
+            segments.buffers = Arrays.copyOf(segments.buffers, Math.max(needed, segments.buffers.length * 2));
+
+        int segmentBytes = width << segmentShift;
+        try {
+            while (segments.count < needed) {
+                long position = HEADER_SIZE + (long) segments.count * segmentBytes;
+                segments.buffers[segments.count] = segments.channel.map(FileChannel.MapMode.READ_WRITE, position, segmentBytes);
+                segments.count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null)
+            return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            //исходная ошибка важнее
+        }
+    }
+
+    /**
+     * The channel and the mappings, kept apart from the list so the {@link Cleaner} does not keep the list reachable.
+     */
+    private static final class Segments implements Runnable {
+        final FileChannel channel;
+        final MappedByteBuffer header;
+        MappedByteBuffer[] buffers = new MappedByteBuffer[4];
+        int count = 0;
+        int size;
+        volatile boolean closed = false;
+
+        Segments(FileChannel channel, MappedByteBuffer header) {
+            this.channel = channel;
+            this.header = header;
+        }
+
+        @Override
+        public void run() {
+            if (!closed)
+                header.putLong(SIZE_OFFSET, size);
+            closed = true;
+            for (int i = 0; i < count; i++) {
+                DirectMemory.free(buffers[i]);
+            }
+            DirectMemory.free(header);
+            buffers = new MappedByteBuffer[0];
+            count = 0;
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "MappedSpecialList{" +
+                (segments.closed ? "closed" : Arrays.toString(toArray())) +
+                '}';
+    }
+}
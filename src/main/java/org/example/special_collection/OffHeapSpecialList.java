@@ -0,0 +1,596 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.ElementCodec;
+import org.example.special_collection.exception.*;
+
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * List that keeps its elements outside the Java heap.
+ * Elements are encoded by an {@link ElementCodec} into fixed-width records
+ * stored in pages of direct {@link ByteBuffer}s, so the GC sees only the page table, not the elements.
+ * Pages are allocated as the list grows and are never copied.
+ * The memory is released by {@link #close()}, or by a {@link Cleaner} once the list is unreachable.
+ * Null elements are not allowed.
+ *
+ * @param <T> the type of stored elements.
+ */
+public class OffHeapSpecialList<T> implements AutoCloseable {
+    /**
+     * Default size of one page: 1 MiB.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1 << 20;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int pageShift;
+    private final int pageMask;
+    private final Pages pages = new Pages();
+    private final Cleaner.Cleanable cleanable;
+    private int size = 0;
+    private byte[] scratch;
+    //создаётся при первой сортировке и переиспользуется вместе со своим опорным буфером
+    private RecordSorter sorter;
+
+    /**
+     * Constructor with pages of 1 MiB.
+     *
+     * @param codec the codec of elements.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public OffHeapSpecialList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Constructor with a specified page size.
+     * A page holds a power of two of records; records never cross pages.
+     *
+     * @param codec    the codec of elements.
+     * @param pageSize the maximal size of one page in bytes.
+     * @throws NullParamException if the codec is null.
+     * @throws CapacityException  if a page can not hold a single record.
+     */
+    public OffHeapSpecialList(ElementCodec<T> codec, int pageSize) {
+        if (codec == null)
+            throw new NullParamException();
+        if (codec.width() <= 0)
+            throw new CapacityException(codec.width());
+        if (pageSize < codec.width())
+            throw new CapacityException(pageSize, codec.width() - 1);
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.pageShift = 31 - Integer.numberOfLeadingZeros(pageSize / width);
+        this.pageMask = (1 << pageShift) - 1;
+        this.cleanable = CLEANER.register(this, pages);
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param obj the object to be added.
+     * @throws NullParamException  if the provided parameter is null.
+     * @throws ClosedListException if the list is closed.
+     */
+    public void add(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+        checkOpen();
+
+        try {
+            ensurePages(size + 1);
+            codec.write(obj, page(size), offset(size));
+            size++;
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Adds an element at the specified index,
+     * shifting the records starting from this index one position towards the end.
+     *
+     * @param index the position where the element should be added.
+     * @param obj   the object to be added.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public void add(int index, T obj) {
+        checkOpen();
+        if (index < 0 || index > size)
+            throw new IndexOutOfRangeException(size, index);
+        if (obj == null)
+            throw new NullParamException();
+
+        try {
+            ensurePages(size + 1);
+            moveRecords(index, index + 1, size - index);
+            codec.write(obj, page(index), offset(index));
+            size++;
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Adds all specified elements to the end of the list.
+     *
+     * @param externalArr the elements to be added.
+     * @throws NullParamException  if the provided array or any of its elements is null.
+     * @throws ClosedListException if the list is closed.
+     */
+    public void addAll(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+        for (T obj : externalArr) {
+            if (obj == null)
+                throw new NullParamException();
+        }
+        checkOpen();
+
+        try {
+            ensurePages(size + externalArr.length);
+            for (T obj : externalArr) {
+                codec.write(obj, page(size), offset(size));
+                size++;
+            }
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Decodes an element by index.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return a new object decoded from the record.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public T get(int index) {
+        checkOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        try {
+            return codec.read(page(index), offset(index));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position.
+     *
+     * @param index the position of the element to be replaced.
+     * @param obj   the object to replace the element with.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public void replace(int index, T obj) {
+        checkOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+        if (obj == null)
+            throw new NullParamException();
+
+        try {
+            codec.write(obj, page(index), offset(index));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Removes an element by index,
+     * shifting the records to the right of the index one position to the left.
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws ClosedListException      if the list is closed.
+     */
+    public void remove(int index) {
+        checkOpen();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        try {
+            moveRecords(index + 1, index, size - index - 1);
+            size--;
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Clears the list and releases all pages except the first one.
+     *
+     * @throws ClosedListException if the list is closed.
+     */
+    public void clean() {
+        checkOpen();
+
+        try {
+            size = 0;
+            releasePages(1);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Releases the pages that hold no records.
+     *
+     * @throws ClosedListException if the list is closed.
+     */
+    public void trim() {
+        checkOpen();
+
+        try {
+            releasePages((size + pageMask) >>> pageShift);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Sorts the elements using the comparator.
+     * The records are decoded into a temporary heap array, sorted by introsort and encoded back.
+     *
+     * @param comparator the comparator used for comparing elements.
+     * @throws NullParamException  if the provided parameter is null.
+     * @throws ClosedListException if the list is closed.
+     */
+    public void sort(Comparator<T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+        checkOpen();
+
+        try {
+            T[] values = (T[]) toArray();
+            Sorting.introsort(values, 0, size - 1, comparator);
+            for (int i = 0; i < size; i++) {
+                codec.write(values[i], page(i), offset(i));
+            }
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Sorts the records by their encoded bytes (unsigned, lexicographic), without decoding any element
+     * and without allocating on the heap. The records are sorted in place by introsort;
+     * the buffer for the pivot record is allocated by the first call and reused by the next ones.
+     * For a codec that {@link ElementCodec#isOrderPreserving() preserves the order} this is the natural order
+     * of the elements; for other codecs it only groups equal records together.
+     *
+     * @throws ClosedListException if the list is closed.
+     */
+    public void sortEncoded() {
+        checkOpen();
+        if (size < 2)
+            return;
+
+        try {
+            if (sorter == null)
+                sorter = new RecordSorter();
+            sorter.sort(0, size - 1, 2 * Sorting.log2(size));
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Decodes all elements into a new heap array.
+     *
+     * @return a new array of {@code size()} elements.
+     * @throws ClosedListException if the list is closed.
+     */
+    public Object[] toArray() {
+        checkOpen();
+
+        try {
+            Object[] result = new Object[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = codec.read(page(i), offset(i));
+            }
+            return result;
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory held by the list.
+     *
+     * @return the total size of the allocated pages.
+     */
+    public long allocatedBytes() {
+        return (long) pages.count * (width << pageShift);
+    }
+
+    /**
+     * Releases the off-heap memory. The list can not be used afterwards.
+     * Calling close more than once has no effect.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+        size = 0;
+    }
+
+    //private methods
+    //Cleaner освобождает страницы сразу, поэтому методы, читающие страницу, держат список достижимым до выхода
+    private ByteBuffer page(int index) {
+        return pages.buffers[index >>> pageShift];
+    }
+
+    private int offset(int index) {
+        return (index & pageMask) * width;
+    }
+
+    private void checkOpen() {
+        if (pages.closed)
+            throw new ClosedListException();
+    }
+
+    private void ensurePages(int capacity) {
+        int needed = (int) (((long) capacity + pageMask) >>> pageShift);
+        if (needed > pages.buffers.length)
+            pages.buffers = Arrays.copyOf(pages.buffers, Math.max(needed, pages.buffers.length * 2));
+
+        while (pages.count < needed) {
+            pages.buffers[pages.count++] = ByteBuffer.allocateDirect(width << pageShift);
+        }
+    }
+
+    private void releasePages(int keep) {
+        while (pages.count > keep) {
+            ByteBuffer page = pages.buffers[--pages.count];
+            pages.buffers[pages.count] = null;
+            DirectMemory.free(page);
+        }
+    }
+
+    /**
+     * Moves {@code count} records from index {@code from} to index {@code to}; the ranges may overlap.
+     * Copies in chunks that do not cross page boundaries, in the direction that never overwrites unread records.
+     */
+    private void moveRecords(int from, int to, int count) {
+        if (count == 0)
+            return;
+        if (scratch == null)
+            scratch = new byte[width << pageShift];
+
+        if (to < from) {
+            int done = 0;
+            while (done < count) {
+                int length = chunkForward(from + done, to + done, count - done);
+                copyChunk(from + done, to + done, length);
+                done += length;
+            }
+        } else {
+            int remaining = count;
+            while (remaining > 0) {
+                int length = chunkBackward(from + remaining, to + remaining, remaining);
+                remaining -= length;
+                copyChunk(from + remaining, to + remaining, length);
+            }
+        }
+    }
+
+    private int chunkForward(int from, int to, int count) {
+        int pageRecords = pageMask + 1;
+        return Math.min(count, Math.min(pageRecords - (from & pageMask), pageRecords - (to & pageMask)));
+    }
+
+    private int chunkBackward(int fromEnd, int toEnd, int count) {
+        //длина куска, заканчивающегося (не включительно) на fromEnd и toEnd, без перехода границы страницы
+        int fromInPage = ((fromEnd - 1) & pageMask) + 1;
+        int toInPage = ((toEnd - 1) & pageMask) + 1;
+        return Math.min(count, Math.min(fromInPage, toInPage));
+    }
+
+    private void copyChunk(int from, int to, int length) {
+        int bytes = length * width;
+        page(from).position(offset(from)).get(scratch, 0, bytes);
+        page(to).position(offset(to)).put(scratch, 0, bytes);
+    }
+
+    /**
+     * The page table, kept apart from the list so the {@link Cleaner} does not keep the list reachable.
+     */
+    private static final class Pages implements Runnable {
+        ByteBuffer[] buffers = new ByteBuffer[4];
+        int count = 0;
+        volatile boolean closed = false;
+
+        @Override
+        public void run() {
+            for (int i = 0; i < count; i++) {
+                DirectMemory.free(buffers[i]);
+            }
+            buffers = new ByteBuffer[0];
+            count = 0;
+            closed = true;
+        }
+    }
+
+    /**
+     * Introsort over the records, comparing encoded bytes.
+     * The pivot is copied into a separate record, so it survives the swaps.
+     */
+    private final class RecordSorter {
+        private final ByteBuffer pivot = ByteBuffer.allocateDirect(width);
+
+        void sort(int lowest, int highest, int depthLimit) {
+            while (highest - lowest >= Sorting.INSERTION_SORT_THRESHOLD) {
+                if (depthLimit-- == 0) {
+                    heapsort(lowest, highest);
+                    return;
+                }
+
+                int median = medianOfThree(lowest, (lowest + highest) >>> 1, highest);
+                copyRecord(page(median), offset(median), pivot, 0);
+
+                //разбиение Хоара: слева не больше опорного, справа не меньше
+                int i = lowest - 1;
+                int j = highest + 1;
+                while (true) {
+                    do {
+                        i++;
+                    } while (compareToPivot(i) < 0);
+                    do {
+                        j--;
+                    } while (compareToPivot(j) > 0);
+                    if (i >= j)
+                        break;
+                    swapRecords(i, j);
+                }
+
+                if (j - lowest < highest - j) {
+                    sort(lowest, j, depthLimit);
+                    lowest = j + 1;
+                } else {
+                    sort(j + 1, highest, depthLimit);
+                    highest = j;
+                }
+            }
+            insertionSort(lowest, highest);
+        }
+
+        private void insertionSort(int lowest, int highest) {
+            for (int i = lowest + 1; i <= highest; i++) {
+                for (int j = i; j > lowest && compareRecords(j - 1, j) > 0; j--) {
+                    swapRecords(j - 1, j);
+                }
+            }
+        }
+
+        private void heapsort(int lowest, int highest) {
+            int length = highest - lowest + 1;
+            for (int i = length / 2 - 1; i >= 0; i--) {
+                siftDown(lowest, i, length);
+            }
+            for (int end = length - 1; end > 0; end--) {
+                swapRecords(lowest, lowest + end);
+                siftDown(lowest, 0, end);
+            }
+        }
+
+        private void siftDown(int base, int root, int length) {
+            int child;
+            while ((child = 2 * root + 1) < length) {
+                if (child + 1 < length && compareRecords(base + child, base + child + 1) < 0)
+                    child++;
+                if (compareRecords(base + root, base + child) >= 0)
+                    return;
+
+                swapRecords(base + root, base + child);
+                root = child;
+            }
+        }
+
+        private int medianOfThree(int a, int b, int c) {
+            if (compareRecords(a, b) < 0) {
+                if (compareRecords(b, c) < 0)
+                    return b;
+                return compareRecords(a, c) < 0 ? c : a;
+            }
+            if (compareRecords(b, c) > 0)
+                return b;
+            return compareRecords(a, c) > 0 ? c : a;
+        }
+
+        private int compareToPivot(int index) {
+            return compareBytes(page(index), offset(index), pivot, 0);
+        }
+
+        private int compareRecords(int first, int second) {
+            return compareBytes(page(first), offset(first), page(second), offset(second));
+        }
+
+        private int compareBytes(ByteBuffer first, int firstOffset, ByteBuffer second, int secondOffset) {
+            int i = 0;
+            for (; i + Long.BYTES <= width; i += Long.BYTES) {
+                int result = Long.compareUnsigned(first.getLong(firstOffset + i), second.getLong(secondOffset + i));
+                if (result != 0)
+                    return result;
+            }
+            for (; i < width; i++) {
+                int result = Integer.compare(first.get(firstOffset + i) & 0xFF, second.get(secondOffset + i) & 0xFF);
+                if (result != 0)
+                    return result;
+            }
+            return 0;
+        }
+
+        private void swapRecords(int first, int second) {
+            ByteBuffer firstPage = page(first);
+            ByteBuffer secondPage = page(second);
+            int firstOffset = offset(first);
+            int secondOffset = offset(second);
+
+            //меняем записи словами по 8 байт, без промежуточного буфера
+            int i = 0;
+            for (; i + Long.BYTES <= width; i += Long.BYTES) {
+                long word = firstPage.getLong(firstOffset + i);
+                firstPage.putLong(firstOffset + i, secondPage.getLong(secondOffset + i));
+                secondPage.putLong(secondOffset + i, word);
+            }
+            for (; i < width; i++) {
+                byte b = firstPage.get(firstOffset + i);
+                firstPage.put(firstOffset + i, secondPage.get(secondOffset + i));
+                secondPage.put(secondOffset + i, b);
+            }
+        }
+
+        private void copyRecord(ByteBuffer from, int fromOffset, ByteBuffer to, int toOffset) {
+            int i = 0;
+            for (; i + Long.BYTES <= width; i += Long.BYTES) {
+                to.putLong(toOffset + i, from.getLong(fromOffset + i));
+            }
+            for (; i < width; i++) {
+                to.put(toOffset + i, from.get(fromOffset + i));
+            }
+        }
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "OffHeapSpecialList{" +
+                (pages.closed ? "closed" : Arrays.toString(toArray())) +
+                '}';
+    }
+}
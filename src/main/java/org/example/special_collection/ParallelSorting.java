@@ -0,0 +1,175 @@
+package org.example.special_collection;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel merge sort over ranges of object arrays.
+ * The range is split in halves down to chunks of {@code granularity} elements,
+ * the chunks are sorted by {@link Sorting#introsort} and then merged pairwise,
+ * every merge being split between several tasks as well.
+ * Merges alternate between the array and a scratch buffer of the same length,
+ * so no level copies its result back.
+ */
+final class ParallelSorting {
+    /**
+     * Chunks are never made shorter than this, smaller tasks cost more than they gain.
+     */
+    static final int MIN_GRANULARITY = 1 << 13;
+
+    private ParallelSorting() {
+    }
+
+    /**
+     * Chooses the chunk length for a range:
+     * about four chunks per worker, but not shorter than {@link #MIN_GRANULARITY}.
+     *
+     * @param length      the number of elements to be sorted.
+     * @param parallelism the parallelism of the pool.
+     * @return the chunk length.
+     */
+    static int defaultGranularity(int length, int parallelism) {
+        return Math.max(length / (parallelism << 2), MIN_GRANULARITY);
+    }
+
+    /**
+     * Sorts the range on the pool.
+     * Sorts it in the calling thread if it is not longer than one chunk.
+     *
+     * @param arr         the array to be sorted.
+     * @param lowest      the index of the first element of the range.
+     * @param highest     the index of the last element of the range.
+     * @param comparator  the comparator used for comparing elements.
+     * @param pool        the pool that runs the tasks.
+     * @param granularity the maximum length of a chunk sorted by one task.
+     */
+    static <T> void parallelSort(T[] arr, int lowest, int highest, Comparator<? super T> comparator,
+                                 ForkJoinPool pool, int granularity) {
+        int length = highest - lowest + 1;
+        if (length <= granularity || pool.getParallelism() == 1) {
+            Sorting.introsort(arr, lowest, highest, comparator);
+            return;
+        }
+
+        T[] buffer = (T[]) new Object[highest + 1];
+        pool.invoke(new SortTask<>(arr, buffer, lowest, length, false, comparator, granularity));
+    }
+
+    /**
+     * Sorts the elements of {@code arr} from {@code base} and leaves the result
+     * either in {@code arr} or, if {@code intoBuffer} is set, in {@code buffer}.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private final T[] arr;
+        private final T[] buffer;
+        private final int base;
+        private final int length;
+        private final boolean intoBuffer;
+        private final Comparator<? super T> comparator;
+        private final int granularity;
+
+        SortTask(T[] arr, T[] buffer, int base, int length, boolean intoBuffer,
+                 Comparator<? super T> comparator, int granularity) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.base = base;
+            this.length = length;
+            this.intoBuffer = intoBuffer;
+            this.comparator = comparator;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= granularity) {
+                Sorting.introsort(arr, base, base + length - 1, comparator);
+                if (intoBuffer)
+                    System.arraycopy(arr, base, buffer, base, length);
+                return;
+            }
+
+            //половины сортируются в противоположный массив и сливаются в нужный
+            int half = length >>> 1;
+            invokeAll(new SortTask<>(arr, buffer, base, half, !intoBuffer, comparator, granularity),
+                    new SortTask<>(arr, buffer, base + half, length - half, !intoBuffer, comparator, granularity));
+
+            T[] from = intoBuffer ? arr : buffer;
+            T[] to = intoBuffer ? buffer : arr;
+            new MergeTask<>(from, to, base, half, base + half, length - half, base, comparator, granularity).compute();
+        }
+    }
+
+    /**
+     * Merges two sorted runs of {@code from} into {@code to} starting at {@code target}.
+     * Long merges are split in two at the middle of the longer run, the split point of the other run
+     * is found by binary search. Equal elements of the left run stay before the ones of the right run.
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+        private final T[] from;
+        private final T[] to;
+        private final int leftBase;
+        private final int leftLength;
+        private final int rightBase;
+        private final int rightLength;
+        private final int target;
+        private final Comparator<? super T> comparator;
+        private final int granularity;
+
+        MergeTask(T[] from, T[] to, int leftBase, int leftLength, int rightBase, int rightLength, int target,
+                  Comparator<? super T> comparator, int granularity) {
+            this.from = from;
+            this.to = to;
+            this.leftBase = leftBase;
+            this.leftLength = leftLength;
+            this.rightBase = rightBase;
+            this.rightLength = rightLength;
+            this.target = target;
+            this.comparator = comparator;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            //пустой или одноэлементные отрезки дальше не делятся
+            if (leftLength + rightLength <= granularity || Math.min(leftLength, rightLength) == 0
+                    || Math.max(leftLength, rightLength) == 1) {
+                merge(from, to, leftBase, leftLength, rightBase, rightLength, target, comparator);
+                return;
+            }
+
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = leftLength >>> 1;
+                rightSplit = Sorting.lowerBound(from, rightBase, rightLength, from[leftBase + leftSplit], comparator);
+            } else {
+                rightSplit = rightLength >>> 1;
+                leftSplit = Sorting.upperBound(from, leftBase, leftLength, from[rightBase + rightSplit], comparator);
+            }
+
+            invokeAll(new MergeTask<>(from, to, leftBase, leftSplit, rightBase, rightSplit, target,
+                            comparator, granularity),
+                    new MergeTask<>(from, to, leftBase + leftSplit, leftLength - leftSplit,
+                            rightBase + rightSplit, rightLength - rightSplit, target + leftSplit + rightSplit,
+                            comparator, granularity));
+        }
+    }
+
+    private static <T> void merge(T[] from, T[] to, int leftBase, int leftLength, int rightBase, int rightLength,
+                                  int target, Comparator<? super T> comparator) {
+        int i = leftBase;
+        int leftEnd = leftBase + leftLength;
+        int j = rightBase;
+        int rightEnd = rightBase + rightLength;
+
+        while (i < leftEnd && j < rightEnd) {
+            if (comparator.compare(from[j], from[i]) < 0)
+                to[target++] = from[j++];
+            else
+                to[target++] = from[i++];
+        }
+        System.arraycopy(from, i, to, target, leftEnd - i);
+        System.arraycopy(from, j, to, target + leftEnd - i, rightEnd - j);
+    }
+}
@@ -0,0 +1,603 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.util.Arrays;
+
+/**
+ * Immutable list based on a relaxed radix-balanced tree (RRB-tree) with 32-way branching.
+ * Every modification returns a new version that shares all untouched nodes with the old one,
+ * so keeping many slightly different versions costs O(log32 n) memory per change instead of a full copy.
+ * {@code get}, {@code add}, {@code replace}, {@code concat} and {@code slice} are O(log32 n).
+ * Nodes that are not completely filled (after concatenation or slicing) keep a table of cumulative sizes,
+ * the other nodes are indexed by radix digits only.
+ * Large lists are best created by a {@link Builder}, which fills the tree without copying paths.
+ * The list is immutable, so it can be shared between threads without locks.
+ *
+ * @param <T> the type of stored elements.
+ */
+public final class PersistentSpecialList<T> {
+    static final int SHIFT = 5;
+    static final int BRANCHING = 1 << SHIFT;
+    /**
+     * Concatenation rebalances a level only if it has more than this many extra nodes over the optimal count.
+     */
+    private static final int EXTRAS = 2;
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private static final PersistentSpecialList<?> EMPTY = new PersistentSpecialList<>(leaf(EMPTY_ARRAY), 0);
+
+    private final Node root;
+    private final int shift;
+
+    private PersistentSpecialList(Node root, int shift) {
+        this.root = root;
+        this.shift = shift;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @return the empty list.
+     */
+    public static <T> PersistentSpecialList<T> empty() {
+        return (PersistentSpecialList<T>) EMPTY;
+    }
+
+    /**
+     * Creates a list with the elements of the specified array.
+     *
+     * @param externalArr the original array.
+     * @return a new list.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public static <T> PersistentSpecialList<T> of(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        return PersistentSpecialList.<T>builder().addAll(externalArr).build();
+    }
+
+    /**
+     * Creates a builder for fast construction of a list.
+     *
+     * @return a new empty builder.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Retrieves an element by index.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return the element of the type corresponding to the collection's type.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= root.size)
+            throw new IndexOutOfRangeException(root.size, index);
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= SHIFT) {
+            int slot = slot(node, level, index);
+            index -= offset(node, level, slot);
+            node = (Node) node.array[slot];
+        }
+        return (T) node.array[index];
+    }
+
+    /**
+     * Returns a new version with the element added to the end.
+     *
+     * @param obj the object to be added.
+     * @return the new version of the list.
+     */
+    public PersistentSpecialList<T> add(T obj) {
+        Node appended = append(root, shift, obj);
+        if (appended != null)
+            return new PersistentSpecialList<>(appended, shift);
+
+        //правый край дерева заполнен - дерево растёт на уровень вверх
+        Node newRoot = internal(new Object[]{root, path(shift, obj)}, shift + SHIFT);
+        return new PersistentSpecialList<>(newRoot, shift + SHIFT);
+    }
+
+    /**
+     * Returns a new version with the element at the specified position replaced.
+     *
+     * @param index the position of the element to be replaced.
+     * @param obj   the object to replace the element with.
+     * @return the new version of the list.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public PersistentSpecialList<T> replace(int index, T obj) {
+        if (index < 0 || index >= root.size)
+            throw new IndexOutOfRangeException(root.size, index);
+
+        return new PersistentSpecialList<>(replace(root, shift, index, obj), shift);
+    }
+
+    /**
+     * Returns a new version with the elements of the specified list added to the end.
+     * Only the nodes along the border of the two trees are rebuilt.
+     *
+     * @param other the list to be appended.
+     * @return the new version of the list.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public PersistentSpecialList<T> concat(PersistentSpecialList<T> other) {
+        if (other == null)
+            throw new NullParamException();
+        if (other.isEmpty())
+            return this;
+        if (isEmpty())
+            return other;
+
+        Object[] merged = concat(root, shift, other.root, other.shift);
+        int level = Math.max(shift, other.shift);
+        if (merged.length == 1)
+            return collapse((Node) merged[0], level);
+
+        return collapse(internal(merged, level + SHIFT), level + SHIFT);
+    }
+
+    /**
+     * Returns a new version with the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     *
+     * @param fromIndex the index of the first element of the slice.
+     * @param toIndex   the index after the last element of the slice.
+     * @return the new version of the list.
+     * @throws IndexOutOfRangeException if the indexes are out of range or {@code fromIndex > toIndex}.
+     */
+    public PersistentSpecialList<T> slice(int fromIndex, int toIndex) {
+        int size = root.size;
+        if (fromIndex < 0 || fromIndex > size)
+            throw new IndexOutOfRangeException(size, fromIndex);
+        if (toIndex < fromIndex || toIndex > size)
+            throw new IndexOutOfRangeException(size, toIndex);
+        if (fromIndex == toIndex)
+            return empty();
+
+        Node node = takeFirst(root, shift, toIndex);
+        node = dropFirst(node, shift, fromIndex);
+        return collapse(node, shift);
+    }
+
+    /**
+     * Returns the number of elements in the collection.
+     *
+     * @return the number of elements in the collection.
+     */
+    public int size() {
+        return root.size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    /**
+     * Returns a copy of the collection's elements.
+     *
+     * @return a new array of {@code size()} elements.
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[root.size];
+        copyTo(root, shift, result, 0);
+        return result;
+    }
+
+    //private methods
+    private static int slot(Node node, int level, int index) {
+        int slot = index >>> level;
+        if (node.sizes != null) {
+            //дочерние узлы не больше полных, поэтому нужный слот не левее радиксного
+            while (node.sizes[slot] <= index) {
+                slot++;
+            }
+        }
+        return slot;
+    }
+
+    private static int offset(Node node, int level, int slot) {
+        if (slot == 0)
+            return 0;
+        return node.sizes == null ? slot << level : node.sizes[slot - 1];
+    }
+
+    private static Node append(Node node, int level, Object obj) {
+        int length = node.array.length;
+        if (level == 0) {
+            if (length == BRANCHING)
+                return null;
+
+            Object[] array = Arrays.copyOf(node.array, length + 1);
+            array[length] = obj;
+            return leaf(array);
+        }
+
+        Object[] array;
+        Node last = append((Node) node.array[length - 1], level - SHIFT, obj);
+        if (last != null) {
+            array = node.array.clone();
+            array[length - 1] = last;
+        } else if (length < BRANCHING) {
+            array = Arrays.copyOf(node.array, length + 1);
+            array[length] = path(level - SHIFT, obj);
+        } else {
+            return null;
+        }
+        return internal(array, level);
+    }
+
+    private static Node path(int level, Object obj) {
+        Node node = leaf(new Object[]{obj});
+        for (int current = SHIFT; current <= level; current += SHIFT) {
+            node = internal(new Object[]{node}, current);
+        }
+        return node;
+    }
+
+    private static Node replace(Node node, int level, int index, Object obj) {
+        Object[] array = node.array.clone();
+        if (level == 0) {
+            array[index] = obj;
+            return new Node(array, null, node.size);
+        }
+
+        int slot = slot(node, level, index);
+        array[slot] = replace((Node) array[slot], level - SHIFT, index - offset(node, level, slot), obj);
+        return new Node(array, node.sizes, node.size);
+    }
+
+    /**
+     * Concatenates two subtrees.
+     *
+     * @return one or two nodes of the height of the higher subtree.
+     */
+    private static Object[] concat(Node left, int leftLevel, Node right, int rightLevel) {
+        if (leftLevel > rightLevel) {
+            Object[] middle = concat(last(left), leftLevel - SHIFT, right, rightLevel);
+            return rebalance(withoutLast(left), middle, EMPTY_ARRAY, leftLevel);
+        }
+        if (leftLevel < rightLevel) {
+            Object[] middle = concat(left, leftLevel, first(right), rightLevel - SHIFT);
+            return rebalance(EMPTY_ARRAY, middle, withoutFirst(right), rightLevel);
+        }
+        if (leftLevel == 0) {
+            if (left.size + right.size > BRANCHING)
+                return new Object[]{left, right};
+
+            Object[] array = Arrays.copyOf(left.array, left.size + right.size);
+            System.arraycopy(right.array, 0, array, left.size, right.size);
+            return new Object[]{leaf(array)};
+        }
+
+        Object[] middle = concat(last(left), leftLevel - SHIFT, first(right), rightLevel - SHIFT);
+        return rebalance(withoutLast(left), middle, withoutFirst(right), leftLevel);
+    }
+
+    /**
+     * Joins the children of the border of two trees at one level
+     * and redistributes their slots if there are too many sparse nodes.
+     *
+     * @return one or two nodes of the specified level.
+     */
+    private static Object[] rebalance(Object[] left, Object[] middle, Object[] right, int level) {
+        Object[] all = new Object[left.length + middle.length + right.length];
+        System.arraycopy(left, 0, all, 0, left.length);
+        System.arraycopy(middle, 0, all, left.length, middle.length);
+        System.arraycopy(right, 0, all, left.length + middle.length, right.length);
+
+        int[] plan = new int[all.length];
+        int total = 0;
+        for (int i = 0; i < all.length; i++) {
+            plan[i] = ((Node) all[i]).array.length;
+            total += plan[i];
+        }
+
+        //план: узлы с недостающими слотами переливаются в соседей, пока лишних узлов не больше EXTRAS
+        int optimal = (total - 1) / BRANCHING + 1;
+        int count = all.length;
+        int i = 0;
+        while (optimal + EXTRAS < count) {
+            while (plan[i] == BRANCHING) {
+                i++;
+            }
+            int remaining = plan[i];
+            do {
+                int filled = Math.min(remaining + plan[i + 1], BRANCHING);
+                plan[i] = filled;
+                remaining = remaining + plan[i + 1] - filled;
+                i++;
+            } while (remaining > 0);
+            System.arraycopy(plan, i + 1, plan, i, count - i - 1);
+            count--;
+            i--;
+        }
+
+        Object[] children = new Object[count];
+        int source = 0;
+        int offset = 0;
+        for (int k = 0; k < count; k++) {
+            Node node = (Node) all[source];
+            if (offset == 0 && node.array.length == plan[k]) {
+                children[k] = node;
+                source++;
+                continue;
+            }
+
+            Object[] slots = new Object[plan[k]];
+            int filled = 0;
+            while (filled < slots.length) {
+                Object[] from = ((Node) all[source]).array;
+                int length = Math.min(slots.length - filled, from.length - offset);
+                System.arraycopy(from, offset, slots, filled, length);
+                filled += length;
+                offset += length;
+                if (offset == from.length) {
+                    source++;
+                    offset = 0;
+                }
+            }
+            children[k] = level == SHIFT ? leaf(slots) : internal(slots, level - SHIFT);
+        }
+
+        if (count <= BRANCHING)
+            return new Object[]{internal(children, level)};
+        return new Object[]{
+                internal(Arrays.copyOf(children, BRANCHING), level),
+                internal(Arrays.copyOfRange(children, BRANCHING, count), level)
+        };
+    }
+
+    private static Node takeFirst(Node node, int level, int count) {
+        if (count == node.size)
+            return node;
+        if (level == 0)
+            return leaf(Arrays.copyOf(node.array, count));
+
+        int slot = slot(node, level, count - 1);
+        Object[] array = Arrays.copyOf(node.array, slot + 1);
+        array[slot] = takeFirst((Node) array[slot], level - SHIFT, count - offset(node, level, slot));
+        return internal(array, level);
+    }
+
+    private static Node dropFirst(Node node, int level, int count) {
+        if (count == 0)
+            return node;
+        if (level == 0)
+            return leaf(Arrays.copyOfRange(node.array, count, node.array.length));
+
+        int slot = slot(node, level, count);
+        Object[] array = Arrays.copyOfRange(node.array, slot, node.array.length);
+        array[0] = dropFirst((Node) array[0], level - SHIFT, count - offset(node, level, slot));
+        return internal(array, level);
+    }
+
+    private static <T> PersistentSpecialList<T> collapse(Node node, int level) {
+        while (level > 0 && node.array.length == 1) {
+            node = (Node) node.array[0];
+            level -= SHIFT;
+        }
+        return new PersistentSpecialList<>(node, level);
+    }
+
+    private static int copyTo(Node node, int level, Object[] target, int position) {
+        if (level == 0) {
+            System.arraycopy(node.array, 0, target, position, node.array.length);
+            return position + node.array.length;
+        }
+        for (Object child : node.array) {
+            position = copyTo((Node) child, level - SHIFT, target, position);
+        }
+        return position;
+    }
+
+    private static Node first(Node node) {
+        return (Node) node.array[0];
+    }
+
+    private static Node last(Node node) {
+        return (Node) node.array[node.array.length - 1];
+    }
+
+    private static Object[] withoutFirst(Node node) {
+        return Arrays.copyOfRange(node.array, 1, node.array.length);
+    }
+
+    private static Object[] withoutLast(Node node) {
+        return Arrays.copyOf(node.array, node.array.length - 1);
+    }
+
+    private static Node leaf(Object[] array) {
+        return new Node(array, null, array.length);
+    }
+
+    /**
+     * Creates an internal node of the specified level.
+     * The table of cumulative sizes is kept only if the node is not left-packed:
+     * some child except the last one is not full, or the last child has a table itself.
+     */
+    private static Node internal(Object[] children, int level) {
+        int full = 1 << level;
+        int size = 0;
+        boolean balanced = ((Node) children[children.length - 1]).sizes == null;
+        for (int i = 0; i < children.length; i++) {
+            Node child = (Node) children[i];
+            size += child.size;
+            if (i < children.length - 1 && child.size != full)
+                balanced = false;
+        }
+        if (balanced)
+            return new Node(children, null, size);
+
+        int[] sizes = new int[children.length];
+        sizes[0] = ((Node) children[0]).size;
+        for (int i = 1; i < children.length; i++) {
+            sizes[i] = sizes[i - 1] + ((Node) children[i]).size;
+        }
+        return new Node(children, sizes, size);
+    }
+
+    /**
+     * Node of the tree: a leaf holds elements, an internal node holds child nodes.
+     */
+    private static final class Node {
+        final Object[] array;
+        final int[] sizes;
+        final int size;
+
+        Node(Object[] array, int[] sizes, int size) {
+            this.array = array;
+            this.sizes = sizes;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Mutable builder of a {@link PersistentSpecialList}.
+     * Fills leaves in place and groups every 32 full nodes into a parent,
+     * so adding is O(1) amortized and nothing is copied except the partial nodes on {@link #build()}.
+     * The builder can be used further after {@code build()}: the built lists are not affected.
+     *
+     * @param <T> the type of stored elements.
+     */
+    public static final class Builder<T> {
+        //levels[k] - готовые узлы высоты k, ещё не собранные в родителя
+        private final Object[][] levels = new Object[7][];
+        private final int[] levelSizes = new int[7];
+        private Object[] leaf = new Object[BRANCHING];
+        private int leafSize = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an element to the end.
+         *
+         * @param obj the object to be added.
+         * @return this builder.
+         */
+        public Builder<T> add(T obj) {
+            leaf[leafSize++] = obj;
+            if (leafSize == BRANCHING)
+                pushLeaf();
+            return this;
+        }
+
+        /**
+         * Adds all specified elements to the end.
+         *
+         * @param externalArr the elements to be added.
+         * @return this builder.
+         * @throws NullParamException if the provided parameter is null.
+         */
+        public Builder<T> addAll(T[] externalArr) {
+            if (externalArr == null)
+                throw new NullParamException();
+
+            int position = 0;
+            while (position < externalArr.length) {
+                int length = Math.min(BRANCHING - leafSize, externalArr.length - position);
+                System.arraycopy(externalArr, position, leaf, leafSize, length);
+                leafSize += length;
+                position += length;
+                if (leafSize == BRANCHING)
+                    pushLeaf();
+            }
+            return this;
+        }
+
+        /**
+         * Creates a list of all added elements.
+         *
+         * @return a new list.
+         */
+        public PersistentSpecialList<T> build() {
+            int top = levels.length - 1;
+            while (top >= 0 && levelSizes[top] == 0) {
+                top--;
+            }
+
+            Node carry = leafSize > 0 ? leaf(Arrays.copyOf(leaf, leafSize)) : null;
+            if (top < 0)
+                return carry == null ? empty() : new PersistentSpecialList<>(carry, 0);
+
+            //частично заполненные уровни замыкаются снизу вверх
+            for (int k = 0; k <= top; k++) {
+                int count = levelSizes[k];
+                if (count == 0 && carry == null)
+                    continue;
+
+                Object[] children = Arrays.copyOf(levels[k], count + (carry == null ? 0 : 1));
+                if (carry != null)
+                    children[count] = carry;
+                carry = internal(children, (k + 1) * SHIFT);
+            }
+            return collapse(carry, (top + 1) * SHIFT);
+        }
+
+        private void pushLeaf() {
+            push(0, leaf(leaf));
+            leaf = new Object[BRANCHING];
+            leafSize = 0;
+        }
+
+        private void push(int level, Node node) {
+            if (levels[level] == null)
+                levels[level] = new Object[BRANCHING];
+
+            levels[level][levelSizes[level]++] = node;
+            if (levelSizes[level] == BRANCHING) {
+                Node parent = internal(levels[level], (level + 1) * SHIFT);
+                levels[level] = new Object[BRANCHING];
+                levelSizes[level] = 0;
+                push(level + 1, parent);
+            }
+        }
+    }
+
+    /**
+     * Comparing elements from this list with elements form obj
+     *
+     * @param obj the object we want to compare with.
+     * @return true - if both lists contain the same elements, false - if elements has differences
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PersistentSpecialList)) return false;
+
+        PersistentSpecialList<?> that = (PersistentSpecialList<?>) obj;
+        return root.size == that.root.size && Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Returns a hash code value of this object.
+     * The value is calculated by the stored elements
+     *
+     * @return a hash code value of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "PersistentSpecialList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.special_collection;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Stable LSD radix sort of object arrays by an extracted int or long key.
+ * Every key is extracted once into a primitive array; the keys and the elements are then scattered together,
+ * one digit per pass, from the least significant. The histograms of all digits are counted in one pass,
+ * and a pass is skipped when all keys have the same digit, so small or clustered keys need fewer passes.
+ * Signed keys are ordered by flipping the sign bit. The scratch buffer of elements and the two arrays of keys
+ * are supplied by the caller and can be reused between calls, like the buffer of {@link StableSorting}.
+ */
+final class RadixSorting {
+    /**
+     * Digit width for int keys: 4 passes over 256 buckets.
+     */
+    static final int INT_DIGIT_BITS = 8;
+    /**
+     * Digit width for long keys: 6 passes over 2048 buckets instead of 8 passes over 256.
+     */
+    static final int LONG_DIGIT_BITS = 11;
+
+    private RadixSorting() {
+    }
+
+    /**
+     * Sorts the first {@code length} elements by an int key, keeping the relative order of equal keys.
+     * The used part of the buffer is cleared before returning, so it keeps no references to elements.
+     *
+     * @param arr        the array to be sorted.
+     * @param length     the number of elements to be sorted.
+     * @param key        the function extracting the key, called once per element.
+     * @param buffer     the scratch buffer, may be null.
+     * @param keys       the array for the keys, of at least {@code length} elements.
+     * @param targetKeys the array the keys are scattered into, of at least {@code length} elements.
+     * @return the scratch buffer to be reused.
+     */
+    static <T> Object[] sortByIntKey(T[] arr, int length, ToIntFunction<? super T> key, Object[] buffer,
+                                   int[] keys, int[] targetKeys) {
+        if (length < 2)
+            return buffer;
+
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.applyAsInt(arr[i]) ^ Integer.MIN_VALUE;
+        }
+
+        int radix = 1 << INT_DIGIT_BITS;
+        int mask = radix - 1;
+        int passes = (Integer.SIZE + INT_DIGIT_BITS - 1) / INT_DIGIT_BITS;
+        int[][] counts = new int[passes][radix];
+        for (int i = 0; i < length; i++) {
+            int k = keys[i];
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(k >>> (pass * INT_DIGIT_BITS)) & mask]++;
+            }
+        }
+
+        Object[] scratch = scratch(buffer, length);
+        Object[] source = arr;
+        Object[] target = scratch;
+        int[] sourceKeys = keys;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * INT_DIGIT_BITS;
+            int[] count = counts[pass];
+            //у всех ключей одинаковая цифра - проход ничего не меняет
+            if (count[(sourceKeys[0] >>> shift) & mask] == length)
+                continue;
+
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                int k = sourceKeys[i];
+                int position = count[(k >>> shift) & mask]++;
+                targetKeys[position] = k;
+                target[position] = source[i];
+            }
+
+            Object[] elements = source;
+            source = target;
+            target = elements;
+            int[] swapped = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapped;
+        }
+
+        return finish(arr, source, scratch, length);
+    }
+
+    /**
+     * Sorts the first {@code length} elements by a long key, keeping the relative order of equal keys.
+     * The used part of the buffer is cleared before returning, so it keeps no references to elements.
+     *
+     * @param arr        the array to be sorted.
+     * @param length     the number of elements to be sorted.
+     * @param key        the function extracting the key, called once per element.
+     * @param buffer     the scratch buffer, may be null.
+     * @param keys       the array for the keys, of at least {@code length} elements.
+     * @param targetKeys the array the keys are scattered into, of at least {@code length} elements.
+     * @return the scratch buffer to be reused.
+     */
+    static <T> Object[] sortByLongKey(T[] arr, int length, ToLongFunction<? super T> key, Object[] buffer,
+                                   long[] keys, long[] targetKeys) {
+        if (length < 2)
+            return buffer;
+
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.applyAsLong(arr[i]) ^ Long.MIN_VALUE;
+        }
+
+        int radix = 1 << LONG_DIGIT_BITS;
+        int mask = radix - 1;
+        int passes = (Long.SIZE + LONG_DIGIT_BITS - 1) / LONG_DIGIT_BITS;
+        int[][] counts = new int[passes][radix];
+        for (int i = 0; i < length; i++) {
+            long k = keys[i];
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (k >>> (pass * LONG_DIGIT_BITS)) & mask]++;
+            }
+        }
+
+        Object[] scratch = scratch(buffer, length);
+        Object[] source = arr;
+        Object[] target = scratch;
+        long[] sourceKeys = keys;
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * LONG_DIGIT_BITS;
+            int[] count = counts[pass];
+            //у всех ключей одинаковая цифра - проход ничего не меняет
+            if (count[(int) (sourceKeys[0] >>> shift) & mask] == length)
+                continue;
+
+            toOffsets(count);
+            for (int i = 0; i < length; i++) {
+                long k = sourceKeys[i];
+                int position = count[(int) (k >>> shift) & mask]++;
+                targetKeys[position] = k;
+                target[position] = source[i];
+            }
+
+            Object[] elements = source;
+            source = target;
+            target = elements;
+            long[] swapped = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapped;
+        }
+
+        return finish(arr, source, scratch, length);
+    }
+
+    //private methods
+    private static Object[] scratch(Object[] buffer, int length) {
+        return buffer != null && buffer.length >= length ? buffer : new Object[length];
+    }
+
+    /**
+     * Turns the counts of the buckets into the positions where the buckets start.
+     */
+    private static void toOffsets(int[] count) {
+        int sum = 0;
+        for (int digit = 0; digit < count.length; digit++) {
+            int c = count[digit];
+            count[digit] = sum;
+            sum += c;
+        }
+    }
+
+    /**
+     * Moves the result back into the array, if the last pass left it in the buffer, and clears the buffer.
+     */
+    private static Object[] finish(Object[] arr, Object[] source, Object[] scratch, int length) {
+        if (source != arr)
+            System.arraycopy(source, 0, arr, 0, length);
+        Arrays.fill(scratch, 0, length, null);
+        return scratch;
+    }
+}
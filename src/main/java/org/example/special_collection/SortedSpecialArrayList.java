@@ -0,0 +1,248 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+
+/**
+ * List that keeps its elements sorted by a comparator.
+ * An element is inserted at the point found by binary search, with one shift of the tail;
+ * a batch is sorted on its own and merged in one linear pass.
+ * Lookups ({@link #indexOf}, {@link #contains}, {@link #floor}, {@link #ceiling}, {@link #rangeView})
+ * are binary searches, O(log n). Equal elements are kept in the order they were added.
+ * Null elements are not allowed.
+ *
+ * @param <T> the type of stored elements.
+ */
+public class SortedSpecialArrayList<T> {
+    private final SpecialArrayList<T> list = new SpecialArrayList<>();
+    private final Comparator<? super T> comparator;
+    //true - порядок естественный, добавляемые элементы проверяются на Comparable
+    private final boolean natural;
+
+    /**
+     * Constructor for a list sorted in the natural order of the elements.
+     */
+    public SortedSpecialArrayList() {
+        this.comparator = SpecialArrayList.naturalOrder();
+        this.natural = true;
+    }
+
+    /**
+     * Constructor for a list sorted by the comparator.
+     *
+     * @param comparator the comparator used for ordering elements.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SortedSpecialArrayList(Comparator<? super T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+
+        this.comparator = comparator;
+        this.natural = false;
+    }
+
+    /**
+     * Adds an element at its place in the order, after the elements equal to it.
+     *
+     * @param obj the object to be added.
+     * @throws NullParamException     if the provided parameter is null.
+     * @throws NotComparableException if the list uses the natural order and the object does not implement Comparable.
+     */
+    public void add(T obj) {
+        checkElement(obj);
+
+        list.add(list.upperBound(obj, comparator), obj);
+    }
+
+    /**
+     * Adds all elements of the array. The batch is sorted on its own and merged into the list
+     * in one pass, so adding k elements costs O(k log k + n) instead of a shift per element.
+     *
+     * @param objs the array of objects to be added.
+     * @throws NullParamException     if the provided array or any of its elements is null.
+     * @throws NotComparableException if the list uses the natural order and an element does not implement Comparable.
+     */
+    public void addAll(T[] objs) {
+        if (objs == null)
+            throw new NullParamException();
+        for (T obj : objs) {
+            checkElement(obj);
+        }
+
+        T[] batch = objs.clone();
+        if (batch.length > 1)
+            Sorting.introsort(batch, 0, batch.length - 1, comparator);
+        list.mergeSorted(batch, comparator);
+    }
+
+    /**
+     * Adds all elements of the collection, the same way as {@link #addAll(Object[])}.
+     *
+     * @param collection the collection of objects to be added.
+     * @throws NullParamException     if the provided collection or any of its elements is null.
+     * @throws NotComparableException if the list uses the natural order and an element does not implement Comparable.
+     */
+    public void addAll(Collection<? extends T> collection) {
+        if (collection == null)
+            throw new NullParamException();
+
+        addAll((T[]) collection.toArray());
+    }
+
+    /**
+     * Retrieves an element by index.
+     *
+     * @param index the position of the element in the order.
+     * @return the element at the index.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    /**
+     * Removes an element by index, shifting the tail one position to the left.
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void remove(int index) {
+        list.remove(index);
+    }
+
+    /**
+     * Returns the index of the first element equal to the object by the comparator.
+     *
+     * @param obj the object to search for.
+     * @return the index of the first equal element, or -1 if there is none.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public int indexOf(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+
+        int index = list.lowerBound(obj, comparator);
+        if (index < list.size() && comparator.compare(list.get(index), obj) == 0)
+            return index;
+        return -1;
+    }
+
+    /**
+     * Checks if the list has an element equal to the object by the comparator.
+     *
+     * @param obj the object to search for.
+     * @return true if there is an equal element.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public boolean contains(T obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the object.
+     *
+     * @param obj the object to compare with.
+     * @return the last such element, or null if there is none.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public T floor(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+
+        int index = list.upperBound(obj, comparator);
+        return index == 0 ? null : list.get(index - 1);
+    }
+
+    /**
+     * Returns the least element greater than or equal to the object.
+     *
+     * @param obj the object to compare with.
+     * @return the first such element, or null if there is none.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public T ceiling(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+
+        int index = list.lowerBound(obj, comparator);
+        return index == list.size() ? null : list.get(index);
+    }
+
+    /**
+     * Returns a live view of the elements from {@code from} (inclusive) to {@code to} (exclusive).
+     * Both bounds are found by binary search, nothing is copied.
+     * Any change of this list makes the view throw {@link ConcurrentModificationException};
+     * replacing elements through the view must keep them in order.
+     *
+     * @param from the least value of the range.
+     * @param to   the value after the range.
+     * @return the view of the range, empty if {@code from} is not less than {@code to}.
+     * @throws NullParamException if any of the provided parameters is null.
+     */
+    public SpecialSubList<T> rangeView(T from, T to) {
+        if (from == null || to == null)
+            throw new NullParamException();
+
+        int fromIndex = list.lowerBound(from, comparator);
+        int toIndex = Math.max(fromIndex, list.lowerBound(to, comparator));
+        return list.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Clears the list.
+     */
+    public void clean() {
+        list.clean();
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements in the list.
+     */
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    /**
+     * Returns the elements in order.
+     *
+     * @return a new array of {@code size()} elements.
+     */
+    public Object[] toArray() {
+        return list.toArray();
+    }
+
+    //private methods
+    private void checkElement(T obj) {
+        if (obj == null)
+            throw new NullParamException();
+        if (natural && !(obj instanceof Comparable))
+            throw new NotComparableException();
+    }
+
+    /**
+     * Describes the current object and its elements.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SortedSpecialArrayList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,418 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.IndexOutOfRangeException;
+import org.example.special_collection.exception.SortNullElementException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Sorting algorithms over ranges of object arrays, shared by the collections of this package.
+ * All ranges are inclusive: from {@code lowest} to {@code highest}.
+ */
+final class Sorting {
+    /**
+     * Ranges of this length or shorter are sorted by insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+    /**
+     * Ranges longer than this use the ninther (median of three medians) as the pivot.
+     */
+    static final int NINTHER_THRESHOLD = 128;
+
+    private Sorting() {
+    }
+
+    /**
+     * Sorts the range with introsort.
+     * Quicksort with a median-of-three (or ninther) pivot and three-way partitioning,
+     * insertion sort for short ranges and heapsort once the recursion gets too deep.
+     * Only the smaller side of a partition is sorted recursively, so the stack depth is O(log n)
+     * and the running time is O(n log n) for any input.
+     *
+     * @param arr        the array to be sorted.
+     * @param lowest     the index of the first element of the range.
+     * @param highest    the index of the last element of the range.
+     * @param comparator the comparator used for comparing elements.
+     * @throws IndexOutOfRangeException if the range is outside the array.
+     */
+    static <T> void introsort(T[] arr, int lowest, int highest, Comparator<? super T> comparator) {
+        introsort(arr, lowest, highest, comparator, null);
+    }
+
+    /**
+     * Sorts the range with introsort, adding the swaps of partitioning and heapsort to the counter.
+     *
+     * @param counter the counter of swaps, or null.
+     * @throws IndexOutOfRangeException if the range is outside the array.
+     */
+    static <T> void introsort(T[] arr, int lowest, int highest, Comparator<? super T> comparator, Counter<?> counter) {
+        if (lowest >= highest)
+            return;
+        if (lowest < 0)
+            throw new IndexOutOfRangeException(lowest);
+        if (highest >= arr.length)
+            throw new IndexOutOfRangeException(arr.length, highest);
+
+        introsort(arr, lowest, highest, comparator, counter, 2 * log2(highest - lowest + 1));
+    }
+
+    private static <T> void introsort(T[] arr, int lowest, int highest, Comparator<? super T> comparator, Counter<?> counter, int depthLimit) {
+        while (highest - lowest >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(arr, lowest, highest, comparator);
+                if (counter != null)
+                    counter.swaps += highest - lowest;
+                return;
+            }
+
+            long bounds = partition(arr, lowest, highest, comparator, counter);
+            int lessEnd = lessEnd(bounds);
+            int greaterStart = greaterStart(bounds);
+
+            //рекурсивно сортируем меньшую часть, а большую - в этом же цикле
+            if (lessEnd - lowest < highest - greaterStart) {
+                introsort(arr, lowest, lessEnd, comparator, counter, depthLimit);
+                lowest = greaterStart;
+            } else {
+                introsort(arr, greaterStart, highest, comparator, counter, depthLimit);
+                highest = lessEnd;
+            }
+        }
+        insertionSort(arr, lowest, highest, comparator);
+    }
+
+    /**
+     * Sorts the first {@code length} elements by a key computed once per element (decorate-sort-undecorate).
+     * Every element is paired with its key in the buffer, the pairs are sorted by introsort comparing only the keys,
+     * and the elements are written back in the new order. The comparator of keys is called O(n log n) times,
+     * the key function exactly n times. The used part of the buffer is cleared before returning.
+     *
+     * @param buffer the scratch buffer, may be null.
+     * @return the scratch buffer to be reused.
+     * @throws SortNullElementException if the key of an element is null.
+     */
+    static <T, K> Object[] sortByKey(T[] arr, int length, Function<? super T, ? extends K> key,
+                                     Comparator<? super K> comparator, Object[] buffer) {
+        if (length < 2)
+            return buffer;
+
+        Object[] pairs = buffer != null && buffer.length >= length ? buffer : new Object[length];
+        try {
+            for (int i = 0; i < length; i++) {
+                K k = key.apply(arr[i]);
+                if (k == null)
+                    throw new SortNullElementException();
+                pairs[i] = new Keyed<>(k, arr[i]);
+            }
+
+            Comparator<Object> byKey = (a, b) -> comparator.compare(((Keyed<K, T>) a).key, ((Keyed<K, T>) b).key);
+            introsort(pairs, 0, length - 1, byKey);
+            for (int i = 0; i < length; i++) {
+                arr[i] = ((Keyed<K, T>) pairs[i]).element;
+            }
+        } finally {
+            Arrays.fill(pairs, 0, length, null);
+        }
+        return pairs;
+    }
+
+    /**
+     * Introselect: rearranges the range so that the element at {@code k} is the one that would be there
+     * after sorting; the elements before it are not greater and the elements after it are not less.
+     * Partitions like introsort, but goes on only into the part that contains {@code k}, so it is O(n) on average.
+     * Once the loop gets too deep, the rest of the range is heapsorted: O(n log n) in the worst case.
+     *
+     * @param k the index in the range that gets its sorted element.
+     */
+    static <T> void select(T[] arr, int lowest, int highest, int k, Comparator<? super T> comparator) {
+        int depthLimit = 2 * log2(highest - lowest + 1);
+        while (highest - lowest >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapsort(arr, lowest, highest, comparator);
+                return;
+            }
+
+            long bounds = partition(arr, lowest, highest, comparator);
+            if (k <= lessEnd(bounds))
+                highest = lessEnd(bounds);
+            else if (k >= greaterStart(bounds))
+                lowest = greaterStart(bounds);
+            else
+                return;
+        }
+        insertionSort(arr, lowest, highest, comparator);
+    }
+
+    /**
+     * Sorts only the first {@code count} positions of the range: they get the least elements in order,
+     * the rest of the range is left in no particular order. Select, then introsort of the prefix: O(n + k log k).
+     */
+    static <T> void partialSort(T[] arr, int lowest, int highest, int count, Comparator<? super T> comparator) {
+        if (count == 0)
+            return;
+
+        int last = lowest + count - 1;
+        if (last < highest)
+            select(arr, lowest, highest, last, comparator);
+        introsort(arr, lowest, last, comparator);
+    }
+
+    /**
+     * Fills {@code heap} with the {@code heap.length} least elements of the range, in order,
+     * keeping them in a bounded max-heap: O(n log k), the range itself is not changed.
+     * The range must have at least {@code heap.length} elements.
+     */
+    static <T> void smallest(T[] arr, int lowest, int highest, T[] heap, Comparator<? super T> comparator) {
+        int length = heap.length;
+        if (length == 0)
+            return;
+
+        System.arraycopy(arr, lowest, heap, 0, length);
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(heap, 0, i, length, comparator);
+        }
+        //корень кучи - наибольший из отобранных, новый элемент вытесняет его, только если он меньше
+        for (int i = lowest + length; i <= highest; i++) {
+            if (comparator.compare(arr[i], heap[0]) < 0) {
+                heap[0] = arr[i];
+                siftDown(heap, 0, 0, length, comparator);
+            }
+        }
+        heapsort(heap, 0, length - 1, comparator);
+    }
+
+    /**
+     * Three-way partition of the range (Bentley-McIlroy).
+     * The pivot is chosen as the median of three elements, or as the ninther for long ranges.
+     * After the call, the elements before {@link #lessEnd(long)} (inclusive) are less than the pivot,
+     * the elements from {@link #greaterStart(long)} are greater than the pivot,
+     * and every element in between is equal to it.
+     *
+     * @return the bounds of the range of elements equal to the pivot, packed into one long.
+     */
+    static <T> long partition(T[] arr, int lowest, int highest, Comparator<? super T> comparator) {
+        return partition(arr, lowest, highest, comparator, null);
+    }
+
+    private static <T> long partition(T[] arr, int lowest, int highest, Comparator<? super T> comparator, Counter<?> counter) {
+        swap(arr, lowest, choosePivot(arr, lowest, highest, comparator));
+        T pivot = arr[lowest];
+
+        //[lowest, p] и [q, highest] - элементы равные pivot, они собираются по краям
+        int i = lowest;
+        int j = highest + 1;
+        int p = lowest;
+        int q = highest + 1;
+        int exchanges = 0;
+
+        while (true) {
+            int ci;
+            int cj;
+            while ((ci = comparator.compare(arr[++i], pivot)) < 0) {
+                if (i == highest)
+                    break;
+            }
+            while ((cj = comparator.compare(pivot, arr[--j])) < 0) {
+                if (j == lowest)
+                    break;
+            }
+
+            if (i == j && ci == 0)
+                swap(arr, ++p, i);
+            if (i >= j)
+                break;
+
+            swap(arr, i, j);
+            exchanges++;
+            if (cj == 0)
+                swap(arr, ++p, i);
+            if (ci == 0)
+                swap(arr, --q, j);
+        }
+
+        //переносим равные pivot элементы с краёв в середину
+        i = j + 1;
+        for (int k = lowest; k <= p; k++) {
+            swap(arr, k, j--);
+        }
+        for (int k = highest; k >= q; k--) {
+            swap(arr, k, i++);
+        }
+
+        //счётчик обновляется один раз за разбиение: опорный, обмены, равные pivot туда и обратно
+        if (counter != null)
+            counter.swaps += 2 + exchanges + 2L * (p - lowest) + 2L * (highest + 1 - q);
+
+        return ((long) j << 32) | (i & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param bounds the result of {@link #partition}.
+     * @return the index of the last element less than the pivot.
+     */
+    static int lessEnd(long bounds) {
+        return (int) (bounds >> 32);
+    }
+
+    /**
+     * @param bounds the result of {@link #partition}.
+     * @return the index of the first element greater than the pivot.
+     */
+    static int greaterStart(long bounds) {
+        return (int) bounds;
+    }
+
+    /**
+     * Sorts the range by insertion sort. Stable, efficient for short or nearly sorted ranges.
+     */
+    static <T> void insertionSort(T[] arr, int lowest, int highest, Comparator<? super T> comparator) {
+        for (int i = lowest + 1; i <= highest; i++) {
+            T current = arr[i];
+            int j = i - 1;
+            while (j >= lowest && comparator.compare(arr[j], current) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = current;
+        }
+    }
+
+    /**
+     * Sorts the range by heapsort. O(n log n) in the worst case, without extra memory.
+     */
+    static <T> void heapsort(T[] arr, int lowest, int highest, Comparator<? super T> comparator) {
+        int length = highest - lowest + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(arr, lowest, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(arr, lowest, lowest + end);
+            siftDown(arr, lowest, 0, end, comparator);
+        }
+    }
+
+    /**
+     * Binary search in a sorted run.
+     *
+     * @return the number of elements of the run that are less than the key.
+     */
+    static <T> int lowerBound(T[] arr, int base, int length, T key, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(arr[base + middle], key) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Binary search in a sorted run.
+     *
+     * @return the number of elements of the run that are less than or equal to the key.
+     */
+    static <T> int upperBound(T[] arr, int base, int length, T key, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(arr[base + middle], key) <= 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    static <T> void swap(T[] arr, int e1, int e2) {
+        T temp = arr[e1];
+        arr[e1] = arr[e2];
+        arr[e2] = temp;
+    }
+
+    /**
+     * @return the floor of the binary logarithm of a positive number.
+     */
+    static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(n);
+    }
+
+    /**
+     * An element with its precomputed sort key.
+     */
+    private static final class Keyed<K, T> {
+        final K key;
+        final T element;
+
+        Keyed(K key, T element) {
+            this.key = key;
+            this.element = element;
+        }
+    }
+
+    /**
+     * Comparator that counts comparisons, and a counter of swaps filled by {@link #introsort}.
+     * Used for one sort in one thread, so the counters are plain fields.
+     */
+    static final class Counter<T> implements Comparator<T> {
+        private final Comparator<? super T> comparator;
+        long comparisons = 0;
+        long swaps = 0;
+
+        Counter(Comparator<? super T> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(T o1, T o2) {
+            comparisons++;
+            return comparator.compare(o1, o2);
+        }
+    }
+
+    //private methods
+    private static <T> int choosePivot(T[] arr, int lowest, int highest, Comparator<? super T> comparator) {
+        int length = highest - lowest + 1;
+        int middle = lowest + (length >>> 1);
+
+        if (length <= NINTHER_THRESHOLD)
+            return medianOfThree(arr, lowest, middle, highest, comparator);
+
+        int step = length >>> 3;
+        int first = medianOfThree(arr, lowest, lowest + step, lowest + 2 * step, comparator);
+        int second = medianOfThree(arr, middle - step, middle, middle + step, comparator);
+        int third = medianOfThree(arr, highest - 2 * step, highest - step, highest, comparator);
+        return medianOfThree(arr, first, second, third, comparator);
+    }
+
+    private static <T> int medianOfThree(T[] arr, int a, int b, int c, Comparator<? super T> comparator) {
+        if (comparator.compare(arr[a], arr[b]) < 0) {
+            if (comparator.compare(arr[b], arr[c]) < 0)
+                return b;
+            return comparator.compare(arr[a], arr[c]) < 0 ? c : a;
+        }
+        if (comparator.compare(arr[b], arr[c]) > 0)
+            return b;
+        return comparator.compare(arr[a], arr[c]) > 0 ? c : a;
+    }
+
+    private static <T> void siftDown(T[] arr, int offset, int root, int length, Comparator<? super T> comparator) {
+        T value = arr[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && comparator.compare(arr[offset + child], arr[offset + child + 1]) < 0)
+                child++;
+            if (comparator.compare(value, arr[offset + child]) >= 0)
+                break;
+
+            arr[offset + root] = arr[offset + child];
+            root = child;
+        }
+        arr[offset + root] = value;
+    }
+}
@@ -0,0 +1,541 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Custom implementation of an ArrayList over a circular buffer.
+ * Has the same API as {@link SpecialArrayList}, but the elements start at a movable head position,
+ * so adding and removing at both ends costs O(1) (amortized, when the array has to be expanded).
+ * Adding and removing in the middle shifts the shorter side of the list.
+ * Access by index stays O(1).
+ *
+ * @param <T> the type of stored elements.
+ */
+public class SpecialArrayDeque<T> {
+    private Double expansionCoefficient = 1.5;
+    private T[] arr;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Default constructor.
+     * The initial array size is set to 10.
+     * By default, when the specified size is exceeded,
+     * the array is increased by 1.5 times.
+     */
+    public SpecialArrayDeque() {
+        arr = createArr(10);
+    }
+
+    /**
+     * Constructor with a specified default size.
+     * When the specified size is exceeded, the array is increased by 1.5 times.
+     *
+     * @param capacity the size of the array to be created.
+     * @throws CapacityException if the specified size is less than zero.
+     */
+    public SpecialArrayDeque(int capacity) {
+        if (capacity <= 0)
+            throw new CapacityException(capacity);
+
+        arr = createArr(capacity);
+    }
+
+    /**
+     * Constructor with a specified default size and expansion coefficient.
+     * When the specified size is exceeded, the array
+     * is increased according to the specified coefficient.
+     *
+     * @param capacity             the size of the array to be created.
+     * @param expansionCoefficient the expansion coefficient. Must be greater than 1.0.
+     * @throws CapacityException             if the specified size is less than zero.
+     * @throws ExpansionCoefficientException if the coefficient is less than (or equal to) 1.0.
+     */
+    public SpecialArrayDeque(int capacity, Double expansionCoefficient) {
+        if (capacity <= 0)
+            throw new CapacityException(capacity);
+        if (expansionCoefficient <= 1.0)
+            throw new ExpansionCoefficientException(expansionCoefficient);
+
+        arr = createArr(capacity);
+        this.expansionCoefficient = expansionCoefficient;
+    }
+
+    /**
+     * Constructor with a specified array.
+     * Creates a copy of the given array,
+     * with the size matching the original array's size.
+     * When the size is exceeded, the array expands by 1.5 times.
+     *
+     * @param externalArr the original array.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SpecialArrayDeque(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        this.size = externalArr.length;
+        this.arr = createArr(size);
+        System.arraycopy(externalArr, 0, this.arr, 0, size);
+    }
+
+    /**
+     * Constructor that creates an array based on a collection.
+     * Creates a copy of the specified array,
+     * with the size matching the original collection's size.
+     * When the size is exceeded, the array expands by 1.5 times.
+     *
+     * @param collection the original collection.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SpecialArrayDeque(Collection<T> collection) {
+        if (collection == null)
+            throw new NullParamException();
+
+        arr = (T[]) collection.toArray();
+        size = collection.size();
+    }
+
+    /**
+     * Adds an element to the end of the array.
+     * When the array's capacity is exceeded, it is expanded
+     * according to the expansion coefficient (expansionCoefficient).
+     *
+     * @param obj the object to be added.
+     */
+    public void add(T obj) {
+        addLast(obj);
+    }
+
+    /**
+     * Adds an element to the array at the specified index.
+     * Shifts the elements before the index one position towards the front
+     * or the elements from the index one position towards the end, whichever part is shorter.
+     * When the array's capacity is exceeded, it is expanded
+     * according to the expansion coefficient (expansionCoefficient).
+     *
+     * @param index the position where the element should be added.
+     * @param obj   the object to be added.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void add(int index, T obj) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfRangeException(size, index);
+
+        if (size == arr.length)
+            expanseArray();
+
+        if (index < size - index) {
+            head = head == 0 ? arr.length - 1 : head - 1;
+            moveRange(1, 0, index);
+        } else {
+            moveRange(index, index + 1, size - index);
+        }
+        arr[physicalIndex(index)] = obj;
+        size++;
+    }
+
+    /**
+     * Adds an element to the front of the array in O(1).
+     *
+     * @param obj the object to be added.
+     */
+    public void addFirst(T obj) {
+        if (size == arr.length)
+            expanseArray();
+
+        head = head == 0 ? arr.length - 1 : head - 1;
+        arr[head] = obj;
+        size++;
+    }
+
+    /**
+     * Adds an element to the end of the array in O(1).
+     *
+     * @param obj the object to be added.
+     */
+    public void addLast(T obj) {
+        if (size == arr.length)
+            expanseArray();
+
+        arr[physicalIndex(size)] = obj;
+        size++;
+    }
+
+    /**
+     * Retrieves an element by index.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return the element of the type corresponding to the collection's type.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        return arr[physicalIndex(index)];
+    }
+
+    /**
+     * Retrieves the first element.
+     *
+     * @return the first element.
+     * @throws IndexOutOfRangeException if the collection is empty.
+     */
+    public T getFirst() {
+        return get(0);
+    }
+
+    /**
+     * Retrieves the last element.
+     *
+     * @return the last element.
+     * @throws IndexOutOfRangeException if the collection is empty.
+     */
+    public T getLast() {
+        return get(size - 1);
+    }
+
+    /**
+     * Removes an element by index.
+     * Shifts the elements before the index one position towards the end
+     * or the elements after the index one position towards the front, whichever part is shorter.
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        if (index < size - index - 1) {
+            moveRange(0, 1, index);
+            arr[head] = null;
+            head = physicalIndex(1);
+        } else {
+            moveRange(index + 1, index, size - index - 1);
+            arr[physicalIndex(size - 1)] = null;
+        }
+        size--;
+    }
+
+    /**
+     * Removes the first element in O(1).
+     *
+     * @return the removed element.
+     * @throws IndexOutOfRangeException if the collection is empty.
+     */
+    public T removeFirst() {
+        if (size == 0)
+            throw new IndexOutOfRangeException(size, 0);
+
+        T removed = arr[head];
+        arr[head] = null;
+        head = physicalIndex(1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the last element in O(1).
+     *
+     * @return the removed element.
+     * @throws IndexOutOfRangeException if the collection is empty.
+     */
+    public T removeLast() {
+        if (size == 0)
+            throw new IndexOutOfRangeException(size, -1);
+
+        int last = physicalIndex(size - 1);
+        T removed = arr[last];
+        arr[last] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Clears the collection.
+     * This does not reduce the size of the underlying array.
+     */
+    public void clean() {
+        while (size > 0) {
+            arr[physicalIndex(--size)] = null;
+        }
+        head = 0;
+    }
+
+    /**
+     * Sorts the elements of the array.
+     * Array have to be without null elements.
+     * Uses introsort: O(n log n) in the worst case, the sort is not stable.
+     *
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement Comparable.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void sort() {
+        if (!(arr[head] instanceof Comparable))
+            throw new NotComparableException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        linearize();
+        Sorting.introsort(this.arr, 0, size - 1, naturalOrder());
+    }
+
+    /**
+     * Sorts the collection using a Comparator.
+     * Array have to be without null elements.
+     * Uses introsort: O(n log n) in the worst case, the sort is not stable.
+     *
+     * @param comparator the comparator used for comparing collection elements.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void sort(Comparator<T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        linearize();
+        Sorting.introsort(this.arr, 0, size - 1, comparator);
+    }
+
+    /**
+     * Replaces the element at the specified position.
+     *
+     * @param index the position of the element to be replaced.
+     * @param obj   the object to replace the element with.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void replace(int index, T obj) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        arr[physicalIndex(index)] = obj;
+    }
+
+    /**
+     * Returns the number of elements in the collection.
+     *
+     * @return the number of elements in the collection.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    // others
+
+    /**
+     * Adds all specified elements to the end of the array.
+     * Expands the array as needed, at least by the expansion coefficient,
+     * so repeated batch appends cost amortized O(1) per element.
+     *
+     * @param externalArr the elements to be added.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public void addAll(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        if (size + externalArr.length > this.arr.length)
+            expanseArray(Math.max(size + externalArr.length, (int) (arr.length * expansionCoefficient) + 1));
+
+        int tail = physicalIndex(size);
+        int firstPart = Math.min(externalArr.length, arr.length - tail);
+        System.arraycopy(externalArr, 0, arr, tail, firstPart);
+        System.arraycopy(externalArr, firstPart, arr, 0, externalArr.length - firstPart);
+        size += externalArr.length;
+    }
+
+    /**
+     * Reduces the size of the internal array to the number of elements in it.
+     */
+    public void trim() {
+        T[] newArr = createArr(size);
+        copyTo(newArr);
+        this.arr = newArr;
+        this.head = 0;
+    }
+
+    /**
+     * Returns a copy of the collection's elements.
+     *
+     * @return a new array with the elements of the collection in their order.
+     */
+    public Object[] toArray() {
+        Object[] publicArr = new Object[size];
+        copyTo(publicArr);
+        return publicArr;
+    }
+
+    /**
+     * Returns a copy of the collection's elements.
+     *
+     * @param externalArr the array into which the copy is to be placed.
+     * @return a copy of the collection's elements.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public T[] toArray(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        if (externalArr.length < size)
+            externalArr = (T[]) Array.newInstance(externalArr.getClass().getComponentType(), size);
+
+        copyTo(externalArr);
+        return externalArr;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check is collection contains null elements.
+     *
+     * @return true - if collection contains, false - if not.
+     */
+    public boolean hasNull() {
+        for (int i = 0; i < size; i++) {
+            if (arr[physicalIndex(i)] == null)
+                return true;
+        }
+        return false;
+    }
+
+    //private methods
+    private int physicalIndex(int index) {
+        int physical = head + index;
+        return physical >= arr.length ? physical - arr.length : physical;
+    }
+
+    /**
+     * Moves {@code length} elements from the logical position {@code from} to the logical position {@code to}.
+     * The ranges may overlap and may wrap around the end of the array,
+     * the copy is split into parts that do not wrap.
+     */
+    private void moveRange(int from, int to, int length) {
+        if (to < from) {
+            //к началу: копируем части с начала диапазона
+            int done = 0;
+            while (done < length) {
+                int source = physicalIndex(from + done);
+                int target = physicalIndex(to + done);
+                int part = Math.min(length - done, Math.min(arr.length - source, arr.length - target));
+                System.arraycopy(arr, source, arr, target, part);
+                done += part;
+            }
+        } else {
+            //к концу: копируем части с конца диапазона
+            int remaining = length;
+            while (remaining > 0) {
+                int sourceLast = physicalIndex(from + remaining - 1);
+                int targetLast = physicalIndex(to + remaining - 1);
+                int part = Math.min(remaining, Math.min(sourceLast + 1, targetLast + 1));
+                System.arraycopy(arr, sourceLast - part + 1, arr, targetLast - part + 1, part);
+                remaining -= part;
+            }
+        }
+    }
+
+    /**
+     * Copies the elements in their order to the beginning of the specified array.
+     */
+    private void copyTo(Object[] target) {
+        int firstPart = Math.min(size, arr.length - head);
+        System.arraycopy(arr, head, target, 0, firstPart);
+        System.arraycopy(arr, 0, target, firstPart, size - firstPart);
+    }
+
+    /**
+     * Moves the elements to the beginning of the array, so they can be processed as a plain range.
+     */
+    private void linearize() {
+        if (head == 0)
+            return;
+
+        T[] newArr = createArr(arr.length);
+        copyTo(newArr);
+        this.arr = newArr;
+        this.head = 0;
+    }
+
+    private void expanseArray() {
+        T[] newArr = createArr((int) (arr.length * expansionCoefficient) + 1);
+        copyTo(newArr);
+        this.arr = newArr;
+        this.head = 0;
+    }
+
+    private void expanseArray(int capacity) {
+        if (capacity <= arr.length)
+            throw new CapacityException(capacity, arr.length);
+
+        T[] newArr = createArr(capacity);
+        copyTo(newArr);
+        this.arr = newArr;
+        this.head = 0;
+    }
+
+    private static <T> Comparator<T> naturalOrder() {
+        return (Comparator<T>) (Comparator<?>) Comparator.naturalOrder();
+    }
+
+    private static <T> T[] createArr(int capacity) {
+        if (capacity < 0)
+            throw new CapacityException(capacity);
+
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Comparing elements from this object with elements form obj
+     *
+     * @param obj the object we want to compare with.
+     * @return true - if both objects contain equal elements in the same order, false - if there are differences
+     */
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof SpecialArrayDeque)) return false;
+
+        SpecialArrayDeque<?> that = (SpecialArrayDeque<?>) obj;
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    /**
+     * Returns a hash code value of this object.
+     * The value is calculated by the elements in their order
+     *
+     * @return a hash code value of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SpecialArrayDeque{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
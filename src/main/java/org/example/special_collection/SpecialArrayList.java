@@ -1,11 +1,29 @@
 package org.example.special_collection;
 
+import org.example.special_collection.codec.ElementCodec;
 import org.example.special_collection.exception.*;
+import org.example.special_collection.growth.GeometricGrowthPolicy;
+import org.example.special_collection.growth.GrowthPolicy;
 
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.Optional;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Custom implementation of an ArrayList.
@@ -13,10 +31,24 @@ import java.util.Optional;
  *
  * @param <T> the type of stored elements.
  */
-public class SpecialArrayList<T> {
-    private Double expansionCoefficient = 1.5;
+public class SpecialArrayList<T> implements Iterable<T> {
+    private GrowthPolicy growthPolicy = new GeometricGrowthPolicy(1.5);
     private T[] arr;
     private int size = 0;
+    private Object[] sortBuffer;
+    //ключи поразрядной сортировки и массивы, куда они распределяются - живут до trim()
+    private int[] intKeys;
+    private int[] intTargetKeys;
+    private long[] longKeys;
+    private long[] longTargetKeys;
+    //элементы [0, sharedSize) массива видны снимкам - перед их изменением массив копируется
+    private int sharedSize = 0;
+    //null - метрики выключены, горячие пути проверяют только это поле
+    private SpecialListMetrics metrics;
+    //число структурных изменений - по нему итераторы обнаруживают параллельное изменение
+    private int modCount = 0;
+    //null - индекс выключен
+    private HashIndex hashIndex;
 
     /**
      * Default constructor.
@@ -55,11 +87,38 @@ public class SpecialArrayList<T> {
     public SpecialArrayList(int capacity, Double expansionCoefficient) {
         if (capacity <= 0)
             throw new CapacityException(capacity);
-        if (expansionCoefficient <= 1.0)
-            throw new ExpansionCoefficientException(expansionCoefficient);
 
+        this.growthPolicy = new GeometricGrowthPolicy(expansionCoefficient);
+        arr = createArr(capacity);
+    }
+
+    /**
+     * Constructor with a growth policy.
+     * The initial array size is set to 10.
+     *
+     * @param growthPolicy the policy that decides how the array grows and shrinks.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SpecialArrayList(GrowthPolicy growthPolicy) {
+        this(10, growthPolicy);
+    }
+
+    /**
+     * Constructor with a specified default size and growth policy.
+     *
+     * @param capacity     the size of the array to be created.
+     * @param growthPolicy the policy that decides how the array grows and shrinks.
+     * @throws CapacityException  if the specified size is less than zero.
+     * @throws NullParamException if the provided policy is null.
+     */
+    public SpecialArrayList(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity <= 0)
+            throw new CapacityException(capacity);
+        if (growthPolicy == null)
+            throw new NullParamException();
+
+        this.growthPolicy = growthPolicy;
         arr = createArr(capacity);
-        this.expansionCoefficient = expansionCoefficient;
     }
 
     /**
@@ -97,10 +156,15 @@ public class SpecialArrayList<T> {
         size = collection.size();
     }
 
+    private SpecialArrayList(T[] arr, int size) {
+        this.arr = arr;
+        this.size = size;
+    }
+
     /**
      * Adds an element to the end of the array.
      * When the array's capacity is exceeded, it is expanded
-     * according to the expansion coefficient (expansionCoefficient).
+     * according to the growth policy.
      *
      * @param obj the object to be added.
      * @throws NullParamException if the provided parameter is null.
@@ -110,14 +174,17 @@ public class SpecialArrayList<T> {
         if (size == arr.length)
             expanseArray();
 
+        modCount++;
         arr[size++] = obj;
+        if (hashIndex != null)
+            hashIndex.added(obj, size - 1, modCount);
     }
 
     /**
      * Adds an element to the array at the specified index,
      * shifting elements starting from this index one position towards the end of the array.
      * When the array's capacity is exceeded, it is expanded
-     * according to the expansion coefficient (expansionCoefficient).
+     * according to the growth policy.
      *
      * @param index the position where the element should be added.
      * @param obj   the object to be added.
@@ -130,7 +197,11 @@ public class SpecialArrayList<T> {
 
         if (size == arr.length)
             expanseArray();
+        unshare(index);
 
+        if (metrics != null)
+            metrics.recordCopy(size - index);
+        modCount++;
         System.arraycopy(arr, index, arr, index + 1, size - index);
         arr[index] = obj;
         size++;
@@ -154,6 +225,7 @@ public class SpecialArrayList<T> {
      * Removes an element by index.
      * Removes the element at the specified index,
      * shifting elements to the right of the index one position to the left.
+     * The array may be shrunk afterwards, if the growth policy shrinks automatically.
      *
      * @param index the index of the element to be removed.
      * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
@@ -162,23 +234,113 @@ public class SpecialArrayList<T> {
         if (index < 0 || index >= size)
             throw new IndexOutOfRangeException(size, index);
 
+        unshare(index);
+        if (metrics != null)
+            metrics.recordCopy(size - index - 1);
+        modCount++;
+        T removed = arr[index];
         System.arraycopy(arr, index + 1, arr, index, size - index - 1);
         arr[--size] = null;
+        if (hashIndex != null && index == size)
+            hashIndex.removedLast(removed, index, modCount);
+        shrinkArray();
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive),
+     * shifting the tail to the left once.
+     *
+     * @param fromIndex the index of the first element to be removed.
+     * @param toIndex   the index after the last element to be removed.
+     * @throws IndexOutOfRangeException if the indexes are out of range or {@code fromIndex > toIndex}.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size)
+            throw new IndexOutOfRangeException(size, fromIndex);
+        if (toIndex < fromIndex || toIndex > size)
+            throw new IndexOutOfRangeException(size, toIndex);
+
+        if (fromIndex == toIndex)
+            return;
+
+        unshare(fromIndex);
+        if (metrics != null)
+            metrics.recordCopy(size - toIndex);
+        System.arraycopy(arr, toIndex, arr, fromIndex, size - toIndex);
+        truncate(size - (toIndex - fromIndex));
+    }
+
+    /**
+     * Removes all elements that satisfy the predicate.
+     * The array is compacted in one pass, the order of the remaining elements is kept.
+     * If the predicate throws an exception, the elements that were not tested yet stay in the collection.
+     *
+     * @param filter the predicate which returns true for the elements to be removed.
+     * @return true if any element was removed.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null)
+            throw new NullParamException();
+
+        return removeMatching(filter);
+    }
+
+    /**
+     * Removes all elements that are contained in the specified collection.
+     * The array is compacted in one pass; {@code contains} of the collection is called once per element,
+     * so a hash-based collection makes the whole call O(n).
+     *
+     * @param collection the elements to be removed.
+     * @return true if any element was removed.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public boolean removeAll(Collection<?> collection) {
+        if (collection == null)
+            throw new NullParamException();
+
+        return removeMatching(collection::contains);
+    }
+
+    /**
+     * Retains only the elements that are contained in the specified collection.
+     * The array is compacted in one pass; {@code contains} of the collection is called once per element,
+     * so a hash-based collection makes the whole call O(n).
+     *
+     * @param collection the elements to be retained.
+     * @return true if any element was removed.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public boolean retainAll(Collection<?> collection) {
+        if (collection == null)
+            throw new NullParamException();
+
+        return removeMatching(obj -> !collection.contains(obj));
     }
 
     /**
      * Clears the collection.
-     * This does not reduce the size of the underlying array.
+     * This does not reduce the size of the underlying array,
+     * unless the growth policy shrinks automatically.
      */
     public void clean() {
+        modCount++;
+        if (sharedSize > 0) {
+            //массив принадлежит снимку - вместо очистки просто берём новый
+            this.arr = createArr(arr.length);
+            this.sharedSize = 0;
+            size = 0;
+        }
         while (size > 0) {
             arr[--size] = null;
         }
+        shrinkArray();
     }
 
     /**
      * Sorts the elements of the array.
      * Array have to be without null elements.
+     * Uses introsort: O(n log n) in the worst case, the sort is not stable.
      *
      * @throws NotComparableException   if the specified collection type
      *                                  does not implement Comparable.
@@ -187,15 +349,14 @@ public class SpecialArrayList<T> {
     public void sort() {
         if (!(arr[0] instanceof Comparable))
             throw new NotComparableException();
-        if (hasNull())
-            throw new SortNullElementException();
 
-        quicksort(this.arr, 0, size - 1, Optional.empty());
+        sortRange(0, size, naturalOrder());
     }
 
     /**
      * Sorts the collection using a Comparator.
      * Array have to be without null elements.
+     * Uses introsort: O(n log n) in the worst case, the sort is not stable.
      *
      * @param comparator the comparator used for comparing collection elements.
      * @throws NullParamException       if the provided parameter is null.
@@ -204,10 +365,318 @@ public class SpecialArrayList<T> {
     public void sort(Comparator<T> comparator) {
         if (comparator == null)
             throw new NullParamException();
+
+        sortRange(0, size, comparator);
+    }
+
+    /**
+     * Finds the element that would be at the index after sorting, without sorting the whole array.
+     * Uses introselect: O(n) on average. The elements are rearranged, so that
+     * the ones before the index are not greater than it and the ones after it are not less.
+     *
+     * @param k          the index of the element in the sorted order, e.g. {@code size() / 2} for the median.
+     * @param comparator the comparator used for comparing collection elements.
+     * @return the k-th element in the comparator order.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     * @throws NullParamException       if the comparator is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public T select(int k, Comparator<? super T> comparator) {
+        if (k < 0 || k >= size)
+            throw new IndexOutOfRangeException(size, k);
+        if (comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        Sorting.select(this.arr, 0, size - 1, k, comparator);
+        return arr[k];
+    }
+
+    /**
+     * Returns the k first elements in the comparator order as a new list, sorted; this list is not changed.
+     * Keeps them in a bounded heap of k elements: O(n log k), no copy of the whole array.
+     * For the k greatest elements pass a reversed comparator.
+     *
+     * @param k          the number of elements to be taken. If it is greater than the size, all elements are taken.
+     * @param comparator the comparator used for comparing collection elements.
+     * @return the new list of {@code min(k, size())} elements.
+     * @throws CapacityException        if k is less than zero.
+     * @throws NullParamException       if the comparator is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public SpecialArrayList<T> topK(int k, Comparator<? super T> comparator) {
+        if (k < 0)
+            throw new CapacityException(k);
+        if (comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        T[] heap = createArr(Math.min(k, size));
+        Sorting.smallest(this.arr, 0, size - 1, heap, comparator);
+        return new SpecialArrayList<>(heap, heap.length);
+    }
+
+    /**
+     * Sorts only the first k positions: they get the k least elements in order,
+     * the rest of the elements follow in no particular order. O(n + k log k).
+     *
+     * @param k the number of positions to be sorted.
+     * @throws IndexOutOfRangeException if k is less than zero or greater than the current size.
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement Comparable.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void partialSort(int k) {
+        if (k < 0)
+            throw new IndexOutOfRangeException(k);
+        //k == size допустимо - сортируется весь список
+        if (k > size)
+            throw new IndexOutOfRangeException(0, size, k);
+        if (!(arr[0] instanceof Comparable))
+            throw new NotComparableException();
+
+        partialSort(k, naturalOrder());
+    }
+
+    /**
+     * Sorts only the first k positions using a Comparator: they get the k first elements in order,
+     * the rest of the elements follow in no particular order. O(n + k log k).
+     *
+     * @param k          the number of positions to be sorted.
+     * @param comparator the comparator used for comparing collection elements.
+     * @throws IndexOutOfRangeException if k is less than zero or greater than the current size.
+     * @throws NullParamException       if the comparator is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0)
+            throw new IndexOutOfRangeException(k);
+        //k == size допустимо - сортируется весь список
+        if (k > size)
+            throw new IndexOutOfRangeException(0, size, k);
+        if (comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        Sorting.partialSort(this.arr, 0, size - 1, k, comparator);
+    }
+
+    /**
+     * Sorts the elements of the array, keeping the relative order of equal elements.
+     * Array have to be without null elements.
+     * Detects already ordered runs and merges them, so a sorted or nearly sorted array
+     * is sorted in close to linear time. The merge buffer is kept and reused by the next stable sort.
+     *
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement Comparable.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void stableSort() {
+        if (!(arr[0] instanceof Comparable))
+            throw new NotComparableException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        sortBuffer = StableSorting.sort(this.arr, 0, size - 1, naturalOrder(), sortBuffer);
+    }
+
+    /**
+     * Sorts the collection using a Comparator, keeping the relative order of equal elements.
+     * Array have to be without null elements.
+     * Detects already ordered runs and merges them, so a sorted or nearly sorted array
+     * is sorted in close to linear time. The merge buffer is kept and reused by the next stable sort.
+     *
+     * @param comparator the comparator used for comparing collection elements.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void stableSort(Comparator<T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        sortBuffer = StableSorting.sort(this.arr, 0, size - 1, comparator, sortBuffer);
+    }
+
+    /**
+     * Sorts the elements by a key in its natural order, computing the key once per element.
+     * For keys that are expensive to compute: a comparator built with {@link Comparator#comparing(Function)}
+     * computes two keys per comparison, about 2n log n in total, this method computes n.
+     * Uses introsort over element-key pairs: O(n log n), the sort is not stable.
+     * Shares the scratch buffer with the stable sort.
+     *
+     * @param key the function extracting the key of an element.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements, or the key of an element is null.
+     */
+    public <K extends Comparable<? super K>> void sortByKey(Function<? super T, ? extends K> key) {
+        sortByKey(key, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the elements by a key using a Comparator of keys, computing the key once per element.
+     * Uses introsort over element-key pairs: O(n log n), the sort is not stable.
+     * Shares the scratch buffer with the stable sort.
+     *
+     * @param key        the function extracting the key of an element.
+     * @param comparator the comparator used for comparing keys.
+     * @throws NullParamException       if any of the provided parameters is null.
+     * @throws SortNullElementException if collection contains null elements, or the key of an element is null.
+     */
+    public <K> void sortByKey(Function<? super T, ? extends K> key, Comparator<? super K> comparator) {
+        if (key == null || comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        sortBuffer = Sorting.sortByKey(this.arr, size, key, comparator, sortBuffer);
+    }
+
+    /**
+     * Sorts the elements by an int key, keeping the relative order of equal keys.
+     * The key is extracted once per element, and the elements are ordered by LSD radix sort
+     * without any comparisons: O(n) with up to 4 passes, fewer if the keys share digits.
+     * Shares the scratch buffer with the stable sort and keeps the arrays of keys until {@link #trim()}.
+     *
+     * @param key the function extracting the key of an element.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void sortByIntKey(ToIntFunction<? super T> key) {
+        if (key == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        if (intKeys == null || intKeys.length < size) {
+            intKeys = new int[size];
+            intTargetKeys = new int[size];
+        }
+        sortBuffer = RadixSorting.sortByIntKey(this.arr, size, key, sortBuffer, intKeys, intTargetKeys);
+    }
+
+    /**
+     * Sorts the elements by a long key, keeping the relative order of equal keys.
+     * The key is extracted once per element, and the elements are ordered by LSD radix sort
+     * without any comparisons: O(n) with up to 6 passes, fewer if the keys share digits.
+     * Shares the scratch buffer with the stable sort and keeps the arrays of keys until {@link #trim()}.
+     *
+     * @param key the function extracting the key of an element.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void sortByLongKey(ToLongFunction<? super T> key) {
+        if (key == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        if (longKeys == null || longKeys.length < size) {
+            longKeys = new long[size];
+            longTargetKeys = new long[size];
+        }
+        sortBuffer = RadixSorting.sortByLongKey(this.arr, size, key, sortBuffer, longKeys, longTargetKeys);
+    }
+
+    /**
+     * Sorts the elements of the array in parallel on the common ForkJoinPool.
+     * Array have to be without null elements.
+     * The result is the same as after {@link #sort()}.
+     *
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement Comparable.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void parallelSort() {
+        parallelSort(ForkJoinPool.commonPool(), defaultGranularity(ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Sorts the elements of the array in parallel on the specified pool.
+     * The array is split into chunks of at most {@code granularity} elements,
+     * every chunk is sorted by its own task, then the chunks are merged in parallel.
+     * Array have to be without null elements.
+     * The result is the same as after {@link #sort()}.
+     *
+     * @param pool        the pool that runs the sorting tasks.
+     * @param granularity the maximum number of elements sorted sequentially by one task.
+     * @throws NullParamException       if the provided pool is null.
+     * @throws GranularityException     if the granularity is less than (or equal to) zero.
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement Comparable.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void parallelSort(ForkJoinPool pool, int granularity) {
+        if (pool == null)
+            throw new NullParamException();
+        if (granularity <= 0)
+            throw new GranularityException(granularity);
+        if (!(arr[0] instanceof Comparable))
+            throw new NotComparableException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        unshare(0);
+        modCount++;
+        ParallelSorting.parallelSort(this.arr, 0, size - 1, naturalOrder(), pool, granularity);
+    }
+
+    /**
+     * Sorts the collection using a Comparator in parallel on the common ForkJoinPool.
+     * Array have to be without null elements.
+     * The result is the same as after {@link #sort(Comparator)}.
+     *
+     * @param comparator the comparator used for comparing collection elements.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void parallelSort(Comparator<T> comparator) {
+        parallelSort(comparator, ForkJoinPool.commonPool(), defaultGranularity(ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Sorts the collection using a Comparator in parallel on the specified pool.
+     * The array is split into chunks of at most {@code granularity} elements,
+     * every chunk is sorted by its own task, then the chunks are merged in parallel.
+     * Array have to be without null elements.
+     * The result is the same as after {@link #sort(Comparator)}.
+     *
+     * @param comparator  the comparator used for comparing collection elements.
+     * @param pool        the pool that runs the sorting tasks.
+     * @param granularity the maximum number of elements sorted sequentially by one task.
+     * @throws NullParamException       if the comparator or the pool is null.
+     * @throws GranularityException     if the granularity is less than (or equal to) zero.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void parallelSort(Comparator<T> comparator, ForkJoinPool pool, int granularity) {
+        if (comparator == null || pool == null)
+            throw new NullParamException();
+        if (granularity <= 0)
+            throw new GranularityException(granularity);
         if (hasNull())
             throw new SortNullElementException();
 
-        quicksort(this.arr, 0, size - 1, Optional.of(comparator));
+        unshare(0);
+        modCount++;
+        ParallelSorting.parallelSort(this.arr, 0, size - 1, comparator, pool, granularity);
     }
 
     /**
@@ -222,9 +691,83 @@ public class SpecialArrayList<T> {
         if (index < 0 || index >= size)
             throw new IndexOutOfRangeException(size, index);
 
+        unshare(index);
+        if (hashIndex != null)
+            hashIndex.replaced(index, arr[index], obj, modCount);
         arr[index] = obj;
     }
 
+    /**
+     * Returns the index of the first element equal to the object.
+     * With the hash index on, this is a hash lookup; otherwise a linear scan.
+     *
+     * @param obj the object to search for, may be null.
+     * @return the index of the first equal element, or -1 if there is none.
+     */
+    public int indexOf(Object obj) {
+        if (hashIndex != null)
+            return validHashIndex().first(obj);
+
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(arr[i], obj))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last element equal to the object.
+     * With the hash index on, this is a hash lookup; otherwise a linear scan from the end.
+     *
+     * @param obj the object to search for, may be null.
+     * @return the index of the last equal element, or -1 if there is none.
+     */
+    public int lastIndexOf(Object obj) {
+        if (hashIndex != null)
+            return validHashIndex().last(obj);
+
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(arr[i], obj))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the list has an element equal to the object.
+     *
+     * @param obj the object to search for, may be null.
+     * @return true if there is an equal element.
+     */
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    /**
+     * Turns the hash index of the elements on or off.
+     * The index maps every element to its first and last position, so {@link #indexOf}, {@link #lastIndexOf}
+     * and {@link #contains} take O(1). Appending, replacing and removing the last element keep it up to date;
+     * other structural changes, which shift positions, mark it stale and it is rebuilt in O(n) on the next lookup.
+     * Elements are compared by {@code equals} and {@code hashCode}, which must not change while they are in the list.
+     *
+     * @param enabled true to build the index on the next lookup, false to drop it.
+     */
+    public void setHashIndex(boolean enabled) {
+        if (!enabled)
+            hashIndex = null;
+        else if (hashIndex == null)
+            hashIndex = new HashIndex();
+    }
+
+    /**
+     * Checks if the hash index is on.
+     *
+     * @return true if lookups use the hash index.
+     */
+    public boolean hasHashIndex() {
+        return hashIndex != null;
+    }
+
     /**
      * Returns the number of elements in the collection.
      *
@@ -238,8 +781,9 @@ public class SpecialArrayList<T> {
     // others
 
     /**
-     * Adds all specified elements.
-     * Expands the array as needed to accommodate both arrays.
+     * Adds all specified elements to the end of the array.
+     * Expands the array as needed, according to the growth policy,
+     * so repeated batch appends cost amortized O(1) per element.
      *
      * @param externalArr the elements to be added.
      * @throws NullParamException if the provided parameter is null.
@@ -248,33 +792,151 @@ public class SpecialArrayList<T> {
         if (externalArr == null)
             throw new NullParamException();
 
-        if (size + externalArr.length >= this.arr.length)
-            expanseArray(size + externalArr.length);
+        insertArray(size, externalArr);
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the array,
+     * in the order of its {@code toArray()}.
+     *
+     * @param collection the elements to be added.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public void addAll(Collection<? extends T> collection) {
+        if (collection == null)
+            throw new NullParamException();
 
-        System.arraycopy(externalArr, 0, this.arr, size, externalArr.length);
-        size += externalArr.length;
+        insertArray(size, collection.toArray());
+    }
+
+    /**
+     * Inserts all specified elements starting at the specified index,
+     * shifting elements starting from this index towards the end of the array.
+     * The tail is shifted only once, for the whole batch.
+     *
+     * @param index       the position where the first element should be inserted.
+     * @param externalArr the elements to be added.
+     * @throws NullParamException       if the provided array is null.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void addAll(int index, T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+        if (index < 0 || index > size)
+            throw new IndexOutOfRangeException(size, index);
+
+        insertArray(index, externalArr);
+    }
+
+    /**
+     * Inserts all elements of the collection starting at the specified index,
+     * shifting elements starting from this index towards the end of the array.
+     * The tail is shifted only once, for the whole batch.
+     *
+     * @param index      the position where the first element should be inserted.
+     * @param collection the elements to be added.
+     * @throws NullParamException       if the provided collection is null.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void addAll(int index, Collection<? extends T> collection) {
+        if (collection == null)
+            throw new NullParamException();
+        if (index < 0 || index > size)
+            throw new IndexOutOfRangeException(size, index);
+
+        insertArray(index, collection.toArray());
+    }
+
+    /**
+     * Increases the size of the internal array, if necessary,
+     * so that it can hold at least the specified number of elements without expanding.
+     * The new size is chosen by the growth policy.
+     *
+     * @param minCapacity the desired minimum capacity.
+     * @throws CapacityException if the capacity is more than the maximal array size.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > arr.length)
+            resizeArray(growthPolicy.grow(arr.length, minCapacity));
+    }
+
+    /**
+     * Returns the size of the internal array.
+     *
+     * @return the number of elements the collection can hold without expanding.
+     */
+    public int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Attaches counters of resizes, shifted elements and sorts to the list, or detaches them.
+     * Without metrics the list does no extra work besides checking that they are absent.
+     *
+     * @param metrics the counters to be updated, or null to turn the metrics off.
+     */
+    public void setMetrics(SpecialListMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null)
+            metrics.recordCapacity(arr.length);
+    }
+
+    /**
+     * Returns the counters attached to the list.
+     *
+     * @return the metrics, or null if they are off.
+     */
+    public SpecialListMetrics metrics() {
+        return metrics;
     }
 
     /**
      * Reduces the size of the internal array to the number of elements in it.
+     * Also releases the buffers kept by the stable and the radix sorts.
      */
     public void trim() {
+        this.sortBuffer = null;
+        this.intKeys = null;
+        this.intTargetKeys = null;
+        this.longKeys = null;
+        this.longTargetKeys = null;
+        //ёмкость уже равна размеру - копировать нечего
+        if (arr.length == size)
+            return;
+
+        if (metrics != null)
+            metrics.recordResize(arr.length, size);
         T[] newArr = createArr(size);
         System.arraycopy(this.arr, 0, newArr, 0, newArr.length);
         this.arr = newArr;
+        this.sharedSize = 0;
     }
 
     /**
-     * Returns a copy of the collection's array.
+     * Returns a copy of the collection's elements.
      *
-     * @return a copy of the collection's array.
+     * @return a new array of {@code size()} elements.
      */
     public Object[] toArray() {
-        Object[] publicArr = new Object[this.arr.length];
-        System.arraycopy(arr, 0, publicArr, 0, arr.length);
+        Object[] publicArr = new Object[size];
+        System.arraycopy(arr, 0, publicArr, 0, size);
         return publicArr;
     }
 
+    /**
+     * Returns an immutable view of the current elements in O(1), without copying.
+     * The snapshot shares the array with this list; the list copies the array
+     * only on its first mutation of the shared elements after a snapshot was taken.
+     * Appending to the end does not touch the shared elements and does not copy.
+     * The snapshot can be read from any thread without locks.
+     *
+     * @return the read-only snapshot of the list.
+     */
+    public SpecialArrayListSnapshot<T> snapshot() {
+        sharedSize = size;
+        return new SpecialArrayListSnapshot<>(arr, size);
+    }
+
     /**
      * Returns a copy of the collection's array.
      *
@@ -315,92 +977,304 @@ public class SpecialArrayList<T> {
         return false;
     }
 
-    //private methods
-    private void quicksort(T[] arr, int lowest, int highest, Optional<Comparator<T>> optionalComparator) {
-        if (lowest >= highest)
-            return;
-        if (lowest < 0)
-            throw new IndexOutOfRangeException(lowest);
-        if (highest >= arr.length)
-            throw new IndexOutOfRangeException(arr.length, highest);
-
-        int pivot;
-
-        //индекс элемента относительно которого сортировался массив
-        //Большие элементы чем указанный находятся справа, меньшие слева
-        if (optionalComparator.isEmpty()) {
-            pivot = partition(arr, lowest, highest);
-        } else {
-            pivot = partition(arr, lowest, highest, optionalComparator.get());
+    /**
+     * Returns a live view of the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     * The view reads and writes the array of this list, nothing is copied.
+     * A structural change of the list made not through the view makes the view
+     * throw {@link java.util.ConcurrentModificationException}.
+     *
+     * @param fromIndex the index of the first element of the view.
+     * @param toIndex   the index after the last element of the view.
+     * @return the view of the range.
+     * @throws IndexOutOfRangeException if the indexes are out of range or {@code fromIndex > toIndex}.
+     */
+    public SpecialSubList<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size)
+            throw new IndexOutOfRangeException(size, fromIndex);
+        if (toIndex < fromIndex || toIndex > size)
+            throw new IndexOutOfRangeException(size, toIndex);
+
+        return new SpecialSubList<>(this, null, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns an iterator over the elements in order, reading the array directly.
+     * The iterator is fail-fast: a structural change of the list that is not made
+     * through {@link Iterator#remove()} makes it throw {@link ConcurrentModificationException}.
+     *
+     * @return an iterator over the elements.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Performs the action for each element in order, reading the array directly.
+     *
+     * @param action the action to be performed.
+     * @throws NullParamException              if the provided parameter is null.
+     * @throws ConcurrentModificationException if the list was structurally changed by the action.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null)
+            throw new NullParamException();
+
+        int expectedModCount = modCount;
+        T[] elements = arr;
+        int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(elements[i]);
         }
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
 
-        //Сортируем обе части
-        quicksort(arr, lowest, pivot - 1, optionalComparator);
-        quicksort(arr, pivot + 1, highest, optionalComparator);
+    /**
+     * Returns a late-binding, fail-fast spliterator over the elements, reading the array directly.
+     * It reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}
+     * and splits its range in halves, so a range of 2^k elements splits into equal powers of two.
+     * The size and the array are bound at the first traversal or split.
+     *
+     * @return a spliterator over the elements.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
 
+    /**
+     * Returns a sequential stream over the elements, without copying them.
+     *
+     * @return a sequential stream.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
     }
 
-    private int partition(T[] arr, int lowest, int highest, Comparator<T> comparator) {
-        T pivot = arr[highest];
+    /**
+     * Returns a parallel stream over the elements, without copying them.
+     * The list must not be changed structurally while the stream runs.
+     *
+     * @return a parallel stream.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 
-        int smallerSideEnd = lowest;
+    /**
+     * Writes the elements to the channel in a compact binary format:
+     * a header with the size and the codec id, the elements encoded as fixed-width records,
+     * and a CRC32 checksum. Only {@code size()} elements are written, not the free capacity.
+     * The records are written in chunks of 64 KiB; the channel is not closed.
+     *
+     * @param channel the channel to write to.
+     * @param codec   the codec of elements.
+     * @throws NullParamException   if any of the parameters is null, or the list contains null elements.
+     * @throws UncheckedIOException if the channel fails.
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super T> codec) {
+        if (channel == null || codec == null || hasNull())
+            throw new NullParamException();
 
-        for (int i = lowest; i < highest; i++) {
-            if (comparator.compare(pivot, arr[i]) >= 0) {
-                swap(i, smallerSideEnd++);
+        int width = codec.width();
+        BinaryFormat.write(channel, codec.id(), width, size, (chunk, from, count) -> {
+            for (int i = 0; i < count; i++) {
+                codec.write(arr[from + i], chunk, i * width);
             }
-        }
+        });
+    }
 
-        //меняем местами элемент, который находится после половины с элементами меньшими чем pivot, и pivot элемент
-        swap(smallerSideEnd, highest);
+    /**
+     * Reads a list written by {@link #writeTo(WritableByteChannel, ElementCodec)}.
+     * From a {@link java.nio.channels.SeekableByteChannel} whose remaining length confirms the size in the header,
+     * the array is allocated once with that size; from other channels it starts at one chunk
+     * and is doubled as the records arrive, so a damaged size can not allocate more than the data holds.
+     *
+     * @param channel the channel to read from.
+     * @param codec   the codec of elements, the same as the one the list was written with.
+     * @param <T>     the type of stored elements.
+     * @return a new list with the read elements.
+     * @throws NullParamException   if any of the parameters is null.
+     * @throws FileFormatException  if the data is not a list written with this codec, is truncated or damaged.
+     * @throws UncheckedIOException if the channel fails.
+     */
+    public static <T> SpecialArrayList<T> readFrom(ReadableByteChannel channel, ElementCodec<T> codec) {
+        if (channel == null || codec == null)
+            throw new NullParamException();
 
-        //возвращаем pivot элемент
-        //гарантированно что слева от этого элемента находятся элементы меньшие чем pivot, а справа - бОльшие
-        return smallerSideEnd;
+        int width = codec.width();
+        Object[] values = BinaryFormat.read(channel, codec.id(), width, Object[]::new, (chunk, target, from, count) -> {
+            for (int i = 0; i < count; i++) {
+                target[from + i] = codec.read(chunk, i * width);
+            }
+        });
+        return new SpecialArrayList<>((T[]) values, values.length);
     }
 
-    private int partition(T[] arr, int lowest, int highest) {
-        if (!(arr[0] instanceof Comparable))
-            throw new NotComparableException();
+    //package-private methods for views
+    int modCount() {
+        return modCount;
+    }
 
-        Comparable<T> pivot = (Comparable<T>) arr[highest];
+    Object[] copyRange(int fromIndex, int toIndex) {
+        return Arrays.copyOfRange(arr, fromIndex, toIndex, Object[].class);
+    }
 
-        int smallerSideEnd = lowest;
+    boolean isComparable(int index) {
+        return arr[index] instanceof Comparable;
+    }
+
+    /**
+     * @return the number of leading elements less than the key; the list must be sorted by the comparator.
+     */
+    int lowerBound(T key, Comparator<? super T> comparator) {
+        return Sorting.lowerBound(arr, 0, size, key, comparator);
+    }
+
+    /**
+     * @return the number of leading elements less than or equal to the key; the list must be sorted by the comparator.
+     */
+    int upperBound(T key, Comparator<? super T> comparator) {
+        return Sorting.upperBound(arr, 0, size, key, comparator);
+    }
 
-        for (int i = lowest; i < highest; i++) {
-            if (pivot.compareTo(arr[i]) >= 0) {
-                swap(i, smallerSideEnd++);
+    /**
+     * Merges a sorted batch into the list sorted by the same comparator, in one pass from the end.
+     * Equal elements of the batch go after the ones already in the list.
+     */
+    void mergeSorted(T[] batch, Comparator<? super T> comparator) {
+        int length = batch.length;
+        if (length == 0)
+            return;
 
+        ensureCapacity(size + length);
+        //элементы левее места вставки первого элемента пачки не сдвигаются
+        int start = upperBound(batch[0], comparator);
+        unshare(start);
+        if (metrics != null)
+            metrics.recordCopy(size - start);
+        modCount++;
+
+        int read = size - 1;
+        int write = size + length - 1;
+        for (int i = length - 1; i >= 0; i--) {
+            while (read >= 0 && comparator.compare(arr[read], batch[i]) > 0) {
+                arr[write--] = arr[read--];
             }
+            arr[write--] = batch[i];
         }
+        size += length;
+    }
 
-        //меняем местами элемент, который находится после половины с элементами меньшими чем pivot, и pivot элемент
-        swap(smallerSideEnd, highest);
+    /**
+     * Sorts the range {@code [fromIndex, toIndex)} with introsort; a structural change for iterators and views.
+     *
+     * @throws SortNullElementException if the range contains null elements.
+     */
+    void sortRange(int fromIndex, int toIndex, Comparator<? super T> comparator) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (arr[i] == null)
+                throw new SortNullElementException();
+        }
 
-        //возвращаем pivot элемент
-        //гарантированно что слева от этого элемента находятся элементы меньшие чем pivot, а справа - бОльшие
-        return smallerSideEnd;
+        unshare(fromIndex);
+        modCount++;
+        if (metrics != null)
+            metrics.sort(this.arr, fromIndex, toIndex - 1, comparator);
+        else
+            Sorting.introsort(this.arr, fromIndex, toIndex - 1, comparator);
     }
 
-    private void swap(int e1, int e2) {
-        T temp = arr[e1];
-        arr[e1] = arr[e2];
-        arr[e2] = temp;
+    //private methods
+    private HashIndex validHashIndex() {
+        if (!hashIndex.isValid(modCount))
+            hashIndex.rebuild(arr, size, modCount);
+        return hashIndex;
     }
 
     private void expanseArray() {
-        T[] newArr = createArr((int) (arr.length * expansionCoefficient) + 1);
-        System.arraycopy(arr, 0, newArr, 0, arr.length);
-        this.arr = newArr;
+        resizeArray(growthPolicy.grow(arr.length, arr.length + 1));
+    }
+
+    private void insertArray(int index, Object[] values) {
+        int length = values.length;
+        if (length == 0)
+            return;
+
+        ensureCapacity(size + length);
+        unshare(index);
+        if (metrics != null)
+            metrics.recordCopy(size - index);
+        modCount++;
+        System.arraycopy(arr, index, arr, index + length, size - index);
+        System.arraycopy(values, 0, arr, index, length);
+        size += length;
+    }
+
+    private boolean removeMatching(Predicate<? super T> filter) {
+        //до первого удаляемого элемента ничего не копируем
+        int read = 0;
+        while (read < size && !filter.test(arr[read])) {
+            read++;
+        }
+        if (read == size)
+            return false;
+
+        unshare(read);
+        int write = read++;
+        try {
+            for (; read < size; read++) {
+                T element = arr[read];
+                if (!filter.test(element))
+                    arr[write++] = element;
+            }
+        } finally {
+            //если предикат бросил исключение, непроверенный хвост остаётся в коллекции
+            System.arraycopy(arr, read, arr, write, size - read);
+            truncate(write + size - read);
+        }
+        return true;
     }
 
-    private void expanseArray(int capacity) {
-        if (capacity <= arr.length)
-            throw new CapacityException(capacity, arr.length);
+    private void truncate(int newSize) {
+        modCount++;
+        Arrays.fill(arr, newSize, size, null);
+        size = newSize;
+        shrinkArray();
+    }
+
+    private void shrinkArray() {
+        int capacity = growthPolicy.shrink(arr.length, size);
+        if (capacity < arr.length)
+            resizeArray(Math.max(capacity, size));
+    }
 
+    private void resizeArray(int capacity) {
+        if (metrics != null)
+            metrics.recordResize(arr.length, capacity);
         T[] newArr = createArr(capacity);
-        System.arraycopy(arr, 0, newArr, 0, arr.length);
+        System.arraycopy(arr, 0, newArr, 0, size);
         this.arr = newArr;
+        this.sharedSize = 0;
+    }
+
+    private void unshare(int fromIndex) {
+        if (fromIndex < sharedSize) {
+            T[] newArr = createArr(arr.length);
+            System.arraycopy(arr, 0, newArr, 0, size);
+            this.arr = newArr;
+            this.sharedSize = 0;
+        }
+    }
+
+    private int defaultGranularity(ForkJoinPool pool) {
+        return ParallelSorting.defaultGranularity(size, pool.getParallelism());
+    }
+
+    static <T> Comparator<T> naturalOrder() {
+        return (Comparator<T>) (Comparator<?>) Comparator.naturalOrder();
     }
 
     private static <T> T[] createArr(int capacity) {
@@ -410,6 +1284,125 @@ public class SpecialArrayList<T> {
         return (T[]) new Object[capacity];
     }
 
+    /**
+     * Fail-fast iterator over the array.
+     */
+    private final class Itr implements Iterator<T> {
+        private int cursor = 0;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            lastReturned = cursor++;
+            return arr[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            SpecialArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Spliterator over the range {@code [origin, fence)} of the array.
+     * A fence of -1 means it is not bound yet: the first use takes the current size and modification count.
+     */
+    private final class ArraySpliterator implements Spliterator<T> {
+        private int origin;
+        private int fence;
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.origin = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = origin;
+            int middle = (lo + hi) >>> 1;
+            if (lo >= middle)
+                return null;
+
+            origin = middle;
+            return new ArraySpliterator(lo, middle, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null)
+                throw new NullParamException();
+
+            int hi = getFence();
+            if (origin >= hi)
+                return false;
+
+            T element = arr[origin++];
+            action.accept(element);
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null)
+                throw new NullParamException();
+
+            int hi = getFence();
+            T[] elements = arr;
+            //весь диапазон проходим по локальной ссылке на массив, проверка - один раз в конце
+            for (int i = origin; i < hi; i++) {
+                action.accept(elements[i]);
+            }
+            origin = hi;
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     /**
      * Comparing array from this object with array form obj
      *
@@ -0,0 +1,123 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.util.Arrays;
+
+/**
+ * Immutable view of the elements of a {@link SpecialArrayList} at the moment of {@link SpecialArrayList#snapshot()}.
+ * Shares the array with the list: the list never modifies the shared elements, it copies the array first.
+ * All fields are final, so a snapshot can be passed to other threads and read without locks.
+ *
+ * @param <T> the type of stored elements.
+ */
+public final class SpecialArrayListSnapshot<T> {
+    private final T[] arr;
+    private final int size;
+
+    SpecialArrayListSnapshot(T[] arr, int size) {
+        this.arr = arr;
+        this.size = size;
+    }
+
+    /**
+     * Retrieves an element by index.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return the element of the type corresponding to the collection's type.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        return arr[index];
+    }
+
+    /**
+     * Returns the number of elements in the snapshot.
+     *
+     * @return the number of elements in the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the snapshot is empty.
+     *
+     * @return true if the snapshot is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a copy of the snapshot's elements.
+     *
+     * @return a new array of {@code size()} elements.
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(arr, size, Object[].class);
+    }
+
+    /**
+     * Returns a copy of the snapshot's elements.
+     *
+     * @param externalArr the array into which the copy is to be placed.
+     * @return a copy of the snapshot's elements.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public T[] toArray(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        if (externalArr.length < size)
+            return (T[]) Arrays.copyOf(arr, size, externalArr.getClass());
+
+        System.arraycopy(arr, 0, externalArr, 0, size);
+        return externalArr;
+    }
+
+    /**
+     * Comparing elements from this snapshot with elements form obj
+     *
+     * @param obj the object we want to compare with.
+     * @return true - if both snapshots contain the same elements, false - if elements has differences
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof SpecialArrayListSnapshot)) return false;
+
+        SpecialArrayListSnapshot<?> that = (SpecialArrayListSnapshot<?>) obj;
+        return Arrays.equals(arr, 0, size, that.arr, 0, that.size);
+    }
+
+    /**
+     * Returns a hash code value of this object.
+     * The value is calculated by the stored elements
+     *
+     * @return a hash code value of this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + (arr[i] == null ? 0 : arr[i].hashCode());
+        }
+        return result;
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SpecialArrayListSnapshot{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
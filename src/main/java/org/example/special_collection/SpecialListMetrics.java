@@ -0,0 +1,198 @@
+package org.example.special_collection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.example.special_collection.exception.CapacityException;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters of what a {@link SpecialArrayList} costs at runtime:
+ * resizes of the array, elements shifted by insertions and removals,
+ * sorts with their comparisons and swaps, and the peak capacity.
+ * Attach it with {@link SpecialArrayList#setMetrics(SpecialListMetrics)}; one instance can serve several lists
+ * and be read from any thread. A list without metrics only checks a null field on its hot paths.
+ * <p>
+ * Resizes to at least the event threshold and sorts of at least that many elements
+ * are also emitted as JFR events ({@code org.example.special_collection.Resize} and {@code .Sort}),
+ * which cost nothing while no recording has them enabled.
+ */
+public final class SpecialListMetrics {
+    /**
+     * Default minimal capacity of a resize, or size of a sort, that is emitted as a JFR event.
+     */
+    public static final int DEFAULT_EVENT_THRESHOLD = 10_000;
+
+    private final int eventThreshold;
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructor with the default event threshold of 10 000 elements.
+     */
+    public SpecialListMetrics() {
+        this(DEFAULT_EVENT_THRESHOLD);
+    }
+
+    /**
+     * Constructor with a specified event threshold.
+     *
+     * @param eventThreshold the minimal capacity of a resize, or size of a sort, emitted as a JFR event.
+     * @throws CapacityException if the threshold is less than zero.
+     */
+    public SpecialListMetrics(int eventThreshold) {
+        if (eventThreshold < 0)
+            throw new CapacityException(eventThreshold);
+
+        this.eventThreshold = eventThreshold;
+    }
+
+    /**
+     * @return the number of times an array was reallocated, growing or shrinking.
+     */
+    public long resizeCount() {
+        return resizes.sum();
+    }
+
+    /**
+     * @return the number of elements shifted by insertions and removals in the middle of a list.
+     */
+    public long copiedElements() {
+        return copiedElements.sum();
+    }
+
+    /**
+     * @return the number of sorts.
+     */
+    public long sortCount() {
+        return sorts.sum();
+    }
+
+    /**
+     * @return the number of comparisons made by sorts.
+     */
+    public long comparisons() {
+        return comparisons.sum();
+    }
+
+    /**
+     * @return the number of swaps made by partitioning and heapsort.
+     */
+    public long swaps() {
+        return swaps.sum();
+    }
+
+    /**
+     * @return the largest capacity of an array seen so far.
+     */
+    public long peakCapacity() {
+        return peakCapacity.get();
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        resizes.reset();
+        copiedElements.reset();
+        sorts.reset();
+        comparisons.reset();
+        swaps.reset();
+        peakCapacity.reset();
+    }
+
+    //package-private hooks
+    void recordCapacity(int capacity) {
+        peakCapacity.accumulate(capacity);
+    }
+
+    void recordResize(int oldCapacity, int newCapacity) {
+        resizes.increment();
+        peakCapacity.accumulate(newCapacity);
+
+        if (newCapacity >= eventThreshold) {
+            ResizeEvent event = new ResizeEvent();
+            if (event.shouldCommit()) {
+                event.oldCapacity = oldCapacity;
+                event.newCapacity = newCapacity;
+                event.commit();
+            }
+        }
+    }
+
+    void recordCopy(int count) {
+        copiedElements.add(count);
+    }
+
+    /**
+     * Sorts the range {@code [lowest, highest]} with introsort, counting the work.
+     */
+    <T> void sort(T[] arr, int lowest, int highest, Comparator<? super T> comparator) {
+        int size = highest - lowest + 1;
+        Sorting.Counter<T> counter = new Sorting.Counter<>(comparator);
+        SortEvent event = new SortEvent();
+        event.begin();
+        Sorting.introsort(arr, lowest, highest, counter, counter);
+        event.end();
+
+        sorts.increment();
+        comparisons.add(counter.comparisons);
+        swaps.add(counter.swaps);
+        if (size >= eventThreshold && event.shouldCommit()) {
+            event.size = size;
+            event.comparisons = counter.comparisons;
+            event.swaps = counter.swaps;
+            event.commit();
+        }
+    }
+
+    @Name("org.example.special_collection.Resize")
+    @Label("Special List Resize")
+    @Category("Special Collections")
+    @Description("The array of a list was reallocated")
+    static final class ResizeEvent extends Event {
+        @Label("Old Capacity")
+        int oldCapacity;
+        @Label("New Capacity")
+        int newCapacity;
+    }
+
+    @Name("org.example.special_collection.Sort")
+    @Label("Special List Sort")
+    @Category("Special Collections")
+    @Description("A list was sorted")
+    static final class SortEvent extends Event {
+        @Label("Size")
+        int size;
+        @Label("Comparisons")
+        long comparisons;
+        @Label("Swaps")
+        long swaps;
+    }
+
+    /**
+     * Describes the current counters.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SpecialListMetrics{" +
+                "resizes=" + resizeCount() +
+                ", copiedElements=" + copiedElements() +
+                ", sorts=" + sortCount() +
+                ", comparisons=" + comparisons() +
+                ", swaps=" + swaps() +
+                ", peakCapacity=" + peakCapacity() +
+                '}';
+    }
+}
@@ -0,0 +1,336 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.LongCodec;
+import org.example.special_collection.exception.*;
+
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Custom implementation of an ArrayList for long values.
+ * Stores the values in a long array, without boxing.
+ */
+public class SpecialLongArrayList {
+    private Double expansionCoefficient = 1.5;
+    private long[] arr;
+    private int size = 0;
+
+    /**
+     * Default constructor.
+     * The initial array size is set to 10.
+     * By default, when the specified size is exceeded,
+     * the array is increased by 1.5 times.
+     */
+    public SpecialLongArrayList() {
+        arr = new long[10];
+    }
+
+    /**
+     * Constructor with a specified default size.
+     * When the specified size is exceeded, the array is increased by 1.5 times.
+     *
+     * @param capacity the size of the array to be created.
+     * @throws CapacityException if the specified size is less than zero.
+     */
+    public SpecialLongArrayList(int capacity) {
+        if (capacity <= 0)
+            throw new CapacityException(capacity);
+
+        arr = new long[capacity];
+    }
+
+    /**
+     * Constructor with a specified default size and expansion coefficient.
+     * When the specified size is exceeded, the array
+     * is increased according to the specified coefficient.
+     *
+     * @param capacity             the size of the array to be created.
+     * @param expansionCoefficient the expansion coefficient. Must be greater than 1.0.
+     * @throws CapacityException             if the specified size is less than zero.
+     * @throws ExpansionCoefficientException if the coefficient is less than (or equal to) 1.0.
+     */
+    public SpecialLongArrayList(int capacity, Double expansionCoefficient) {
+        if (capacity <= 0)
+            throw new CapacityException(capacity);
+        if (expansionCoefficient <= 1.0)
+            throw new ExpansionCoefficientException(expansionCoefficient);
+
+        arr = new long[capacity];
+        this.expansionCoefficient = expansionCoefficient;
+    }
+
+    /**
+     * Constructor with a specified array.
+     * Creates a copy of the given array,
+     * with the size matching the original array's size.
+     * When the size is exceeded, the array expands by 1.5 times.
+     *
+     * @param externalArr the original array.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SpecialLongArrayList(long[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        this.size = externalArr.length;
+        this.arr = Arrays.copyOf(externalArr, size);
+    }
+
+    private SpecialLongArrayList(long[] arr, int size) {
+        this.arr = arr;
+        this.size = size;
+    }
+
+    /**
+     * Adds a value to the end of the array.
+     * When the array's capacity is exceeded, it is expanded
+     * according to the expansion coefficient (expansionCoefficient).
+     *
+     * @param value the value to be added.
+     */
+    public void add(long value) {
+        if (size == arr.length)
+            expanseArray();
+
+        arr[size++] = value;
+    }
+
+    /**
+     * Adds a value to the array at the specified index,
+     * shifting values starting from this index one position towards the end of the array.
+     * When the array's capacity is exceeded, it is expanded
+     * according to the expansion coefficient (expansionCoefficient).
+     *
+     * @param index the position where the value should be added.
+     * @param value the value to be added.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void add(int index, long value) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfRangeException(size, index);
+
+        if (size == arr.length)
+            expanseArray();
+
+        System.arraycopy(arr, index, arr, index + 1, size - index);
+        arr[index] = value;
+        size++;
+    }
+
+    /**
+     * Retrieves a value by index.
+     *
+     * @param index the position (index) of the value to be retrieved.
+     * @return the value at the specified position.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        return arr[index];
+    }
+
+    /**
+     * Removes a value by index.
+     * Removes the value at the specified index,
+     * shifting values to the right of the index one position to the left.
+     *
+     * @param index the index of the value to be removed.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        System.arraycopy(arr, index + 1, arr, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Clears the collection.
+     * This does not reduce the size of the underlying array.
+     */
+    public void clean() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the values in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(arr, 0, size);
+    }
+
+    /**
+     * Replaces the value at the specified position.
+     *
+     * @param index the position of the value to be replaced.
+     * @param value the value to replace the old one with.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void replace(int index, long value) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        arr[index] = value;
+    }
+
+    /**
+     * Returns the number of values in the collection.
+     *
+     * @return the number of values in the collection.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    // others
+
+    /**
+     * Adds all specified values.
+     * Expands the array as needed, at least by the expansion coefficient,
+     * so repeated batch appends cost amortized O(1) per value.
+     *
+     * @param externalArr the values to be added.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public void addAll(long[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        if (size + externalArr.length > this.arr.length)
+            expanseArray(Math.max(size + externalArr.length, (int) (arr.length * expansionCoefficient) + 1));
+
+        System.arraycopy(externalArr, 0, this.arr, size, externalArr.length);
+        size += externalArr.length;
+    }
+
+    /**
+     * Reduces the size of the internal array to the number of values in it.
+     */
+    public void trim() {
+        this.arr = Arrays.copyOf(arr, size);
+    }
+
+    /**
+     * Returns a copy of the collection's values.
+     *
+     * @return a new array with the values of the collection.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(arr, size);
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Writes the values to the channel in a compact binary format:
+     * a header with the size, the values as fixed-width records and a CRC32 checksum.
+     * The records are the ones of {@link LongCodec}, so the data can also be read
+     * by {@link SpecialArrayList#readFrom(ReadableByteChannel, org.example.special_collection.codec.ElementCodec)}.
+     * The values are encoded straight into a 64 KiB buffer, without boxing; the channel is not closed.
+     *
+     * @param channel the channel to write to.
+     * @throws NullParamException   if the provided parameter is null.
+     * @throws UncheckedIOException if the channel fails.
+     */
+    public void writeTo(WritableByteChannel channel) {
+        if (channel == null)
+            throw new NullParamException();
+
+        BinaryFormat.write(channel, LongCodec.ID, Long.BYTES, size, (chunk, from, count) -> {
+            for (int i = 0; i < count; i++) {
+                chunk.putLong(i * Long.BYTES, LongCodec.encode(arr[from + i]));
+            }
+        });
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo(WritableByteChannel)}.
+     * From a {@link java.nio.channels.SeekableByteChannel} whose remaining length confirms the size in the header,
+     * the array is allocated once with that size; from other channels it starts at one chunk
+     * and is doubled as the records arrive, so a damaged size can not allocate more than the data holds.
+     *
+     * @param channel the channel to read from.
+     * @return a new list with the read values.
+     * @throws NullParamException   if the provided parameter is null.
+     * @throws FileFormatException  if the data is not a list of long values, is truncated or damaged.
+     * @throws UncheckedIOException if the channel fails.
+     */
+    public static SpecialLongArrayList readFrom(ReadableByteChannel channel) {
+        if (channel == null)
+            throw new NullParamException();
+
+        long[] values = BinaryFormat.read(channel, LongCodec.ID, Long.BYTES, long[]::new, (chunk, target, from, count) -> {
+            for (int i = 0; i < count; i++) {
+                target[from + i] = LongCodec.decode(chunk.getLong(i * Long.BYTES));
+            }
+        });
+        return new SpecialLongArrayList(values, values.length);
+    }
+
+    //private methods
+    private void expanseArray() {
+        this.arr = Arrays.copyOf(arr, (int) (arr.length * expansionCoefficient) + 1);
+    }
+
+    private void expanseArray(int capacity) {
+        if (capacity <= arr.length)
+            throw new CapacityException(capacity, arr.length);
+
+        this.arr = Arrays.copyOf(arr, capacity);
+    }
+
+    /**
+     * Comparing values from this object with values form obj
+     *
+     * @param obj the object we want to compare with.
+     * @return true - if both objects contain the same values, false - if values has differences
+     */
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof SpecialLongArrayList)) return false;
+
+        SpecialLongArrayList that = (SpecialLongArrayList) obj;
+        return Arrays.equals(arr, 0, size, that.arr, 0, that.size);
+    }
+
+    /**
+     * Returns a hash code value of this object.
+     * The value is calculated by the stored values
+     *
+     * @return a hash code value of this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(arr[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Describes the current object and the values it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SpecialLongArrayList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
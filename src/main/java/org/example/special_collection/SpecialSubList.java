@@ -0,0 +1,191 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Live view of a range of a {@link SpecialArrayList}, returned by {@link SpecialArrayList#subList(int, int)}.
+ * Reads and writes go straight to the array of the list, nothing is copied;
+ * creating a view costs one small object, so a list can be paged through in windows.
+ * The view remembers the modification count of the list: once the list is changed structurally
+ * not through this view, every method of the view throws {@link ConcurrentModificationException}.
+ *
+ * @param <T> the type of stored elements.
+ */
+public final class SpecialSubList<T> {
+    private final SpecialArrayList<T> root;
+    private final SpecialSubList<T> parent;
+    private final int offset;
+    private int size;
+    private int expectedModCount;
+
+    SpecialSubList(SpecialArrayList<T> root, SpecialSubList<T> parent, int offset, int size) {
+        this.root = root;
+        this.parent = parent;
+        this.offset = offset;
+        this.size = size;
+        this.expectedModCount = root.modCount();
+    }
+
+    /**
+     * Retrieves an element by index in the view.
+     *
+     * @param index the position of the element in the view.
+     * @return the element of the list at {@code fromIndex + index}.
+     * @throws IndexOutOfRangeException        if the index is less than zero or greater than the size of the view.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+        checkForComodification();
+
+        return root.get(offset + index);
+    }
+
+    /**
+     * Replaces the element at the specified position in the view, and so in the list.
+     *
+     * @param index the position of the element in the view.
+     * @param obj   the object to replace the element with.
+     * @throws IndexOutOfRangeException        if the index is less than zero or greater than the size of the view.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public void replace(int index, T obj) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+        checkForComodification();
+
+        root.replace(offset + index, obj);
+    }
+
+    /**
+     * Sorts the range of the list in the natural order, in place. The rest of the list is not touched.
+     *
+     * @throws NotComparableException          if the elements do not implement Comparable.
+     * @throws SortNullElementException        if the range contains null elements.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public void sort() {
+        checkForComodification();
+        if (size == 0)
+            return;
+        if (!root.isComparable(offset))
+            throw new NotComparableException();
+
+        root.sortRange(offset, offset + size, SpecialArrayList.naturalOrder());
+        updateModCount(0);
+    }
+
+    /**
+     * Sorts the range of the list using the comparator, in place. The rest of the list is not touched.
+     *
+     * @param comparator the comparator used for comparing elements.
+     * @throws NullParamException              if the provided parameter is null.
+     * @throws SortNullElementException        if the range contains null elements.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public void sort(Comparator<? super T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+        checkForComodification();
+
+        root.sortRange(offset, offset + size, comparator);
+        updateModCount(0);
+    }
+
+    /**
+     * Removes the whole range from the list with one shift of the tail. The view becomes empty.
+     *
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public void clean() {
+        checkForComodification();
+
+        root.removeRange(offset, offset + size);
+        updateModCount(size);
+    }
+
+    /**
+     * Returns a view of a range of this view, backed by the same list.
+     *
+     * @param fromIndex the index of the first element, in this view.
+     * @param toIndex   the index after the last element, in this view.
+     * @return the view of the range.
+     * @throws IndexOutOfRangeException        if the indexes are out of range or {@code fromIndex > toIndex}.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public SpecialSubList<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size)
+            throw new IndexOutOfRangeException(size, fromIndex);
+        if (toIndex < fromIndex || toIndex > size)
+            throw new IndexOutOfRangeException(size, toIndex);
+        checkForComodification();
+
+        return new SpecialSubList<>(root, this, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns the number of elements in the view.
+     *
+     * @return the number of elements in the view.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    /**
+     * Checks if the view is empty.
+     *
+     * @return true if the view is empty, otherwise false.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a copy of the elements of the view.
+     *
+     * @return a new array of {@code size()} elements.
+     * @throws ConcurrentModificationException if the list was changed structurally not through the view.
+     */
+    public Object[] toArray() {
+        checkForComodification();
+        return root.copyRange(offset, offset + size);
+    }
+
+    //private methods
+    private void checkForComodification() {
+        if (root.modCount() != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Accepts a change made through this view, in this view and in all views it was taken from.
+     */
+    private void updateModCount(int removed) {
+        int modCount = root.modCount();
+        for (SpecialSubList<T> view = this; view != null; view = view.parent) {
+            view.size -= removed;
+            view.expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Describes the current object and the elements it shows.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SpecialSubList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
@@ -0,0 +1,514 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Custom implementation of an ArrayList as a tiered vector.
+ * Has the same API as {@link SpecialArrayList}, but the elements are stored in blocks of a fixed size
+ * instead of one large array. Every block is a small circular buffer,
+ * and all blocks except the last one are full.
+ * <ul>
+ *     <li>Growth appends a new block, the stored elements are never copied to a larger array.</li>
+ *     <li>Adding and removing in the middle shifts at most half a block
+ *     and moves one element between each pair of neighbouring blocks after it:
+ *     O(blockSize + size / blockSize) instead of O(size).</li>
+ *     <li>Access by index stays O(1) through the table of blocks.</li>
+ * </ul>
+ * The block size is a power of two; a block size close to the square root of the expected size
+ * gives the cheapest insertion and removal.
+ *
+ * @param <T> the type of stored elements.
+ */
+public class SpecialTieredArrayList<T> {
+    private static final int DEFAULT_BLOCK_SIZE = 1 << 10;
+
+    private final int blockShift;
+    private final int blockMask;
+    private T[][] blocks;
+    private int[] heads;
+    private int blockCount = 0;
+    private int size = 0;
+    //последний освободившийся блок, чтобы не пересоздавать его на границе блоков
+    private T[] spareBlock;
+
+    /**
+     * Default constructor.
+     * The block size is set to 1024.
+     */
+    public SpecialTieredArrayList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructor with a specified block size.
+     * The size is rounded up to the nearest power of two.
+     *
+     * @param blockSize the number of elements in one block.
+     * @throws CapacityException if the specified size is less than (or equal to) zero.
+     */
+    public SpecialTieredArrayList(int blockSize) {
+        if (blockSize <= 0)
+            throw new CapacityException(blockSize);
+
+        this.blockShift = 32 - Integer.numberOfLeadingZeros(blockSize - 1);
+        this.blockMask = (1 << blockShift) - 1;
+        this.blocks = (T[][]) new Object[4][];
+        this.heads = new int[4];
+    }
+
+    /**
+     * Constructor with a specified array.
+     * Creates a copy of the given array with the default block size.
+     *
+     * @param externalArr the original array.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SpecialTieredArrayList(T[] externalArr) {
+        this(DEFAULT_BLOCK_SIZE);
+        if (externalArr == null)
+            throw new NullParamException();
+
+        addAll(externalArr);
+    }
+
+    /**
+     * Constructor that creates a list based on a collection.
+     * Creates a copy of the collection's elements with the default block size.
+     *
+     * @param collection the original collection.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public SpecialTieredArrayList(Collection<T> collection) {
+        this(DEFAULT_BLOCK_SIZE);
+        if (collection == null)
+            throw new NullParamException();
+
+        addAll((T[]) collection.toArray());
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     * When the last block is full, a new block is appended.
+     *
+     * @param obj the object to be added.
+     */
+    public void add(T obj) {
+        if (size == blockCount << blockShift)
+            appendBlock();
+
+        int block = size >>> blockShift;
+        blocks[block][(heads[block] + size) & blockMask] = obj;
+        size++;
+    }
+
+    /**
+     * Adds an element to the list at the specified index,
+     * shifting elements starting from this index one position towards the end of the list.
+     * Inside the block of the index the shorter side is shifted,
+     * every following block passes its last element to the next block in O(1).
+     *
+     * @param index the position where the element should be added.
+     * @param obj   the object to be added.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void add(int index, T obj) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfRangeException(size, index);
+
+        if (index == size) {
+            add(obj);
+            return;
+        }
+        if (size == blockCount << blockShift)
+            appendBlock();
+
+        int block = index >>> blockShift;
+        int lastBlock = size >>> blockShift;
+        int blockSize = blockMask + 1;
+
+        if (block == lastBlock) {
+            insertIntoBlock(block, index & blockMask, size & blockMask, obj);
+            size++;
+            return;
+        }
+
+        //блок заполнен: его последний элемент переходит в начало следующего блока
+        T carry = blocks[block][(heads[block] + blockMask) & blockMask];
+        insertIntoBlock(block, index & blockMask, blockSize - 1, obj);
+
+        for (int i = block + 1; i < lastBlock; i++) {
+            int head = (heads[i] - 1) & blockMask;
+            T last = blocks[i][head];
+            blocks[i][head] = carry;
+            heads[i] = head;
+            carry = last;
+        }
+
+        heads[lastBlock] = (heads[lastBlock] - 1) & blockMask;
+        blocks[lastBlock][heads[lastBlock]] = carry;
+        size++;
+    }
+
+    /**
+     * Retrieves an element by index.
+     *
+     * @param index the position (index) of the element to be retrieved.
+     * @return the element of the type corresponding to the collection's type.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        int block = index >>> blockShift;
+        return blocks[block][(heads[block] + index) & blockMask];
+    }
+
+    /**
+     * Removes an element by index.
+     * Removes the element at the specified index,
+     * shifting elements to the right of the index one position to the left.
+     * Inside the block of the index the shorter side is shifted,
+     * every following block passes its first element to the previous block in O(1).
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        int block = index >>> blockShift;
+        int lastBlock = (size - 1) >>> blockShift;
+        int lastCount = size - (lastBlock << blockShift);
+
+        removeFromBlock(block, index & blockMask, block == lastBlock ? lastCount : blockMask + 1);
+
+        //первый элемент каждого следующего блока переходит в конец предыдущего
+        for (int i = block + 1; i <= lastBlock; i++) {
+            int head = heads[i];
+            blocks[i - 1][(heads[i - 1] + blockMask) & blockMask] = blocks[i][head];
+            blocks[i][head] = null;
+            heads[i] = (head + 1) & blockMask;
+        }
+
+        size--;
+        if (size == (blockCount - 1) << blockShift)
+            removeLastBlock();
+    }
+
+    /**
+     * Clears the collection.
+     * The table of blocks keeps its size, the blocks themselves are released.
+     */
+    public void clean() {
+        while (blockCount > 0) {
+            removeLastBlock();
+        }
+        if (spareBlock != null)
+            Arrays.fill(spareBlock, null);
+        size = 0;
+    }
+
+    /**
+     * Sorts the elements of the list.
+     * List have to be without null elements.
+     * Uses introsort: O(n log n) in the worst case, the sort is not stable.
+     * The elements are sorted in a temporary array and written back to the blocks.
+     *
+     * @throws NotComparableException   if the specified collection type
+     *                                  does not implement Comparable.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void sort() {
+        if (size == 0 || !(get(0) instanceof Comparable))
+            throw new NotComparableException();
+
+        sort((Comparator<T>) (Comparator<?>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the collection using a Comparator.
+     * List have to be without null elements.
+     * Uses introsort: O(n log n) in the worst case, the sort is not stable.
+     * The elements are sorted in a temporary array and written back to the blocks.
+     *
+     * @param comparator the comparator used for comparing collection elements.
+     * @throws NullParamException       if the provided parameter is null.
+     * @throws SortNullElementException if collection contains null elements.
+     */
+    public void sort(Comparator<T> comparator) {
+        if (comparator == null)
+            throw new NullParamException();
+        if (hasNull())
+            throw new SortNullElementException();
+
+        if (size == 0)
+            return;
+
+        T[] flat = (T[]) toArray();
+        Sorting.introsort(flat, 0, size - 1, comparator);
+
+        int blockSize = blockMask + 1;
+        Arrays.fill(blocks[blockCount - 1], null);
+        for (int i = 0; i < blockCount; i++) {
+            heads[i] = 0;
+            System.arraycopy(flat, i << blockShift, blocks[i], 0, Math.min(blockSize, size - (i << blockShift)));
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position.
+     *
+     * @param index the position of the element to be replaced.
+     * @param obj   the object to replace the element with.
+     * @throws IndexOutOfRangeException if the index is less than zero or greater than the current size.
+     */
+    public void replace(int index, T obj) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfRangeException(size, index);
+
+        int block = index >>> blockShift;
+        blocks[block][(heads[block] + index) & blockMask] = obj;
+    }
+
+    /**
+     * Returns the number of elements in the collection.
+     *
+     * @return the number of elements in the collection.
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    // others
+
+    /**
+     * Adds all specified elements.
+     * Fills the last block and appends as many new blocks as needed.
+     *
+     * @param externalArr the elements to be added.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public void addAll(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        int blockSize = blockMask + 1;
+        int copied = 0;
+        while (copied < externalArr.length) {
+            if (size == blockCount << blockShift)
+                appendBlock();
+
+            int block = size >>> blockShift;
+            int position = (heads[block] + size) & blockMask;
+            int part = Math.min(externalArr.length - copied,
+                    Math.min(blockSize - (size & blockMask), blockSize - position));
+            System.arraycopy(externalArr, copied, blocks[block], position, part);
+            copied += part;
+            size += part;
+        }
+    }
+
+    /**
+     * Releases the spare block and reduces the table of blocks to the number of blocks in use.
+     */
+    public void trim() {
+        spareBlock = null;
+        blocks = Arrays.copyOf(blocks, blockCount);
+        heads = Arrays.copyOf(heads, blockCount);
+    }
+
+    /**
+     * Returns a copy of the collection's elements.
+     *
+     * @return a new array with the elements of the collection in their order.
+     */
+    public Object[] toArray() {
+        Object[] publicArr = new Object[size];
+        copyTo(publicArr);
+        return publicArr;
+    }
+
+    /**
+     * Returns a copy of the collection's elements.
+     *
+     * @param externalArr the array into which the copy is to be placed.
+     * @return a copy of the collection's elements.
+     * @throws NullParamException if the provided parameter is null.
+     */
+    public T[] toArray(T[] externalArr) {
+        if (externalArr == null)
+            throw new NullParamException();
+
+        if (externalArr.length < size)
+            externalArr = (T[]) Array.newInstance(externalArr.getClass().getComponentType(), size);
+
+        copyTo(externalArr);
+        return externalArr;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check is collection contains null elements.
+     *
+     * @return true - if collection contains, false - if not.
+     */
+    public boolean hasNull() {
+        for (int i = 0; i < size; i++) {
+            int block = i >>> blockShift;
+            if (blocks[block][(heads[block] + i) & blockMask] == null)
+                return true;
+        }
+        return false;
+    }
+
+    //private methods
+
+    /**
+     * Inserts an element into a block that has a free slot,
+     * shifting the shorter side of the block.
+     *
+     * @param block  the index of the block.
+     * @param offset the position inside the block.
+     * @param count  the number of elements in the block, not counting the one being replaced by the insertion.
+     * @param obj    the object to be inserted.
+     */
+    private void insertIntoBlock(int block, int offset, int count, T obj) {
+        T[] elements = blocks[block];
+        int head = heads[block];
+
+        if (offset < count - offset) {
+            head = (head - 1) & blockMask;
+            for (int i = 0; i < offset; i++) {
+                elements[(head + i) & blockMask] = elements[(head + i + 1) & blockMask];
+            }
+            heads[block] = head;
+        } else {
+            for (int i = count; i > offset; i--) {
+                elements[(head + i) & blockMask] = elements[(head + i - 1) & blockMask];
+            }
+        }
+        elements[(head + offset) & blockMask] = obj;
+    }
+
+    /**
+     * Removes an element from a block, shifting the shorter side of the block.
+     * Afterwards the free slot of the block is its last position.
+     *
+     * @param block  the index of the block.
+     * @param offset the position inside the block.
+     * @param count  the number of elements in the block.
+     */
+    private void removeFromBlock(int block, int offset, int count) {
+        T[] elements = blocks[block];
+        int head = heads[block];
+
+        if (offset < count - 1 - offset) {
+            for (int i = offset; i > 0; i--) {
+                elements[(head + i) & blockMask] = elements[(head + i - 1) & blockMask];
+            }
+            elements[head] = null;
+            heads[block] = (head + 1) & blockMask;
+        } else {
+            for (int i = offset; i < count - 1; i++) {
+                elements[(head + i) & blockMask] = elements[(head + i + 1) & blockMask];
+            }
+            elements[(head + count - 1) & blockMask] = null;
+        }
+    }
+
+    private void appendBlock() {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2 + 1);
+            heads = Arrays.copyOf(heads, blockCount * 2 + 1);
+        }
+
+        blocks[blockCount] = spareBlock != null ? spareBlock : (T[]) new Object[blockMask + 1];
+        heads[blockCount] = 0;
+        blockCount++;
+        spareBlock = null;
+    }
+
+    private void removeLastBlock() {
+        blockCount--;
+        spareBlock = blocks[blockCount];
+        blocks[blockCount] = null;
+    }
+
+    /**
+     * Copies the elements in their order to the beginning of the specified array.
+     */
+    private void copyTo(Object[] target) {
+        int blockSize = blockMask + 1;
+        for (int i = 0; i < blockCount; i++) {
+            int count = Math.min(blockSize, size - (i << blockShift));
+            int firstPart = Math.min(count, blockSize - heads[i]);
+            System.arraycopy(blocks[i], heads[i], target, i << blockShift, firstPart);
+            System.arraycopy(blocks[i], 0, target, (i << blockShift) + firstPart, count - firstPart);
+        }
+    }
+
+    /**
+     * Comparing elements from this object with elements form obj
+     *
+     * @param obj the object we want to compare with.
+     * @return true - if both objects contain equal elements in the same order, false - if there are differences
+     */
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof SpecialTieredArrayList)) return false;
+
+        SpecialTieredArrayList<?> that = (SpecialTieredArrayList<?>) obj;
+        if (size != that.size)
+            return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), that.get(i)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code value of this object.
+     * The value is calculated by the elements in their order
+     *
+     * @return a hash code value of this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Describes the current object and the elements it stores.
+     *
+     * @return a string description of the current object
+     */
+    @Override
+    public String toString() {
+        return "SpecialTieredArrayList{" +
+                Arrays.toString(toArray()) +
+                '}';
+    }
+}
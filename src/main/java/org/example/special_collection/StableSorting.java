@@ -0,0 +1,285 @@
+package org.example.special_collection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Stable, run-adaptive merge sort over ranges of object arrays, in the style of TimSort.
+ * Natural runs (ascending, or strictly descending and then reversed) are detected,
+ * short runs are extended by binary insertion sort, and the runs are merged
+ * while keeping the TimSort invariants on the run stack.
+ * Before a merge, the elements of both runs that are already in place are skipped,
+ * so an already sorted or nearly sorted range costs close to O(n).
+ * The scratch buffer is supplied by the caller and can be reused between calls.
+ */
+final class StableSorting {
+    /**
+     * Ranges shorter than this are sorted by binary insertion sort only.
+     */
+    static final int MIN_MERGE = 32;
+    /**
+     * Enough for any range of int length under the run stack invariants.
+     */
+    private static final int MAX_RUN_STACK = 49;
+
+    private StableSorting() {
+    }
+
+    /**
+     * Sorts the range, keeping the relative order of equal elements.
+     * The buffer is grown if a merge needs more room; the returned buffer should be used for the next call.
+     * The used part of the buffer is cleared before returning, so it keeps no references to elements.
+     *
+     * @param arr        the array to be sorted.
+     * @param lowest     the index of the first element of the range.
+     * @param highest    the index of the last element of the range.
+     * @param comparator the comparator used for comparing elements.
+     * @param buffer     the scratch buffer, may be null.
+     * @return the scratch buffer to be reused, may be null if no merge was needed.
+     */
+    static <T> Object[] sort(T[] arr, int lowest, int highest, Comparator<? super T> comparator, Object[] buffer) {
+        int remaining = highest - lowest + 1;
+        if (remaining < 2)
+            return buffer;
+
+        int end = highest + 1;
+        if (remaining < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(arr, lowest, end, comparator);
+            binaryInsertionSort(arr, lowest, end, lowest + runLength, comparator);
+            return buffer;
+        }
+
+        Merger<T> merger = new Merger<>(arr, comparator, buffer);
+        int minRun = minRunLength(remaining);
+        int low = lowest;
+        do {
+            int runLength = countRunAndMakeAscending(arr, low, end, comparator);
+
+            //короткий отрезок дополняется до minRun сортировкой вставками
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(arr, low, low + forced, low + runLength, comparator);
+                runLength = forced;
+            }
+
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        merger.mergeForceCollapse();
+        return merger.releaseBuffer();
+    }
+
+    /**
+     * Sorts {@code arr[low, high)} whose prefix {@code arr[low, start)} is already sorted,
+     * finding the insertion point of every next element by binary search.
+     */
+    static <T> void binaryInsertionSort(T[] arr, int low, int high, int start, Comparator<? super T> comparator) {
+        if (start == low)
+            start++;
+
+        for (; start < high; start++) {
+            T pivot = arr[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (comparator.compare(pivot, arr[middle]) < 0)
+                    right = middle;
+                else
+                    left = middle + 1;
+            }
+            System.arraycopy(arr, left, arr, left + 1, start - left);
+            arr[left] = pivot;
+        }
+    }
+
+    /**
+     * Finds the length of the run starting at {@code low}.
+     * A strictly descending run is reversed, so the run is always ascending afterwards.
+     * Only strictly descending runs are reversed, otherwise the sort would not be stable.
+     */
+    static <T> int countRunAndMakeAscending(T[] arr, int low, int high, Comparator<? super T> comparator) {
+        int runHigh = low + 1;
+        if (runHigh == high)
+            return 1;
+
+        if (comparator.compare(arr[runHigh++], arr[low]) < 0) {
+            while (runHigh < high && comparator.compare(arr[runHigh], arr[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            reverseRange(arr, low, runHigh);
+        } else {
+            while (runHigh < high && comparator.compare(arr[runHigh], arr[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * Computes the minimal run length for a range of the specified length:
+     * a value between {@code MIN_MERGE / 2} and {@code MIN_MERGE},
+     * so that the number of runs is a power of two or slightly less.
+     */
+    static int minRunLength(int length) {
+        int lowBits = 0;
+        while (length >= MIN_MERGE) {
+            lowBits |= (length & 1);
+            length >>= 1;
+        }
+        return length + lowBits;
+    }
+
+    //private methods
+    private static void reverseRange(Object[] arr, int low, int high) {
+        high--;
+        while (low < high) {
+            Object temp = arr[low];
+            arr[low++] = arr[high];
+            arr[high--] = temp;
+        }
+    }
+
+    /**
+     * The run stack and the merge procedures of one sort call.
+     */
+    private static final class Merger<T> {
+        private final T[] arr;
+        private final Comparator<? super T> comparator;
+        private final int[] runBase = new int[MAX_RUN_STACK];
+        private final int[] runLength = new int[MAX_RUN_STACK];
+        private int stackSize = 0;
+        private Object[] buffer;
+        private int bufferUsed = 0;
+
+        Merger(T[] arr, Comparator<? super T> comparator, Object[] buffer) {
+            this.arr = arr;
+            this.comparator = comparator;
+            this.buffer = buffer;
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merges runs until the invariants hold for the whole stack:
+         * {@code runLength[i - 2] > runLength[i - 1] + runLength[i]} and {@code runLength[i - 1] > runLength[i]}.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1])
+                        n--;
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1])
+                    n--;
+                mergeAt(n);
+            }
+        }
+
+        Object[] releaseBuffer() {
+            if (buffer != null)
+                Arrays.fill(buffer, 0, bufferUsed, null);
+            return buffer;
+        }
+
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            //элементы первого отрезка, не большие первого элемента второго, уже на своих местах
+            int skipped = Sorting.upperBound(arr, base1, length1, arr[base2], comparator);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0)
+                return;
+
+            //элементы второго отрезка, не меньшие последнего элемента первого, тоже на своих местах
+            length2 = Sorting.lowerBound(arr, base2, length2, arr[base1 + length1 - 1], comparator);
+            if (length2 == 0)
+                return;
+
+            if (length1 <= length2)
+                mergeLow(base1, length1, base2, length2);
+            else
+                mergeHigh(base1, length1, base2, length2);
+        }
+
+        /**
+         * Merges two adjacent runs, the first one being the shorter: it is moved to the buffer
+         * and the runs are merged from the front.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            Object[] tmp = ensureBuffer(length1);
+            System.arraycopy(arr, base1, tmp, 0, length1);
+
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int end2 = base2 + length2;
+            int dest = base1;
+            while (cursor1 < length1 && cursor2 < end2) {
+                if (comparator.compare(arr[cursor2], (T) tmp[cursor1]) < 0)
+                    arr[dest++] = arr[cursor2++];
+                else
+                    arr[dest++] = (T) tmp[cursor1++];
+            }
+            System.arraycopy(tmp, cursor1, arr, dest, length1 - cursor1);
+        }
+
+        /**
+         * Merges two adjacent runs, the second one being the shorter: it is moved to the buffer
+         * and the runs are merged from the back.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            Object[] tmp = ensureBuffer(length2);
+            System.arraycopy(arr, base2, tmp, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+            while (cursor1 >= base1 && cursor2 >= 0) {
+                if (comparator.compare((T) tmp[cursor2], arr[cursor1]) < 0)
+                    arr[dest--] = arr[cursor1--];
+                else
+                    arr[dest--] = (T) tmp[cursor2--];
+            }
+            System.arraycopy(tmp, 0, arr, dest - cursor2, cursor2 + 1);
+        }
+
+        private Object[] ensureBuffer(int length) {
+            if (buffer == null || buffer.length < length) {
+                int newLength = Math.max(length, Math.min(arr.length >>> 1, length << 1));
+                buffer = new Object[newLength];
+            }
+            bufferUsed = Math.max(bufferUsed, length);
+            return buffer;
+        }
+    }
+}
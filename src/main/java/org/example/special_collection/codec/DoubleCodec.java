@@ -0,0 +1,64 @@
+package org.example.special_collection.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a Double as 8 big-endian bytes of its bits, transformed so the byte order of records
+ * is the order of {@link Double#compare}: negative values have all bits flipped, the others only the sign bit.
+ */
+public final class DoubleCodec implements ElementCodec<Double> {
+    public static final DoubleCodec INSTANCE = new DoubleCodec();
+    /**
+     * The identifier of the encoding, see {@link ElementCodec#id()}.
+     */
+    public static final int ID = 3;
+
+    private DoubleCodec() {
+    }
+
+    @Override
+    public int width() {
+        return Double.BYTES;
+    }
+
+    @Override
+    public void write(Double value, ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, encode(value));
+    }
+
+    @Override
+    public Double read(ByteBuffer buffer, int offset) {
+        return decode(buffer.getLong(offset));
+    }
+
+    @Override
+    public boolean isOrderPreserving() {
+        return true;
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    /**
+     * Encodes a value the way records are written, without boxing.
+     *
+     * @param value the value.
+     * @return the encoded bits.
+     */
+    public static long encode(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * Decodes a value encoded by {@link #encode(double)}.
+     *
+     * @param bits the encoded bits.
+     * @return the value.
+     */
+    public static double decode(long bits) {
+        return Double.longBitsToDouble(bits ^ ((~bits >> 63) | Long.MIN_VALUE));
+    }
+}
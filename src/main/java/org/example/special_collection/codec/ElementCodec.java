@@ -0,0 +1,57 @@
+package org.example.special_collection.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes elements as fixed-width records in a {@link ByteBuffer}.
+ * Records are read and written with absolute positions, so the position and limit of the buffer are not changed.
+ * Buffers are big-endian.
+ *
+ * @param <T> the type of encoded elements.
+ */
+public interface ElementCodec<T> {
+    /**
+     * Returns the size of one record.
+     *
+     * @return the number of bytes of every record, more than zero.
+     */
+    int width();
+
+    /**
+     * Writes the element as a record of {@link #width()} bytes.
+     *
+     * @param value  the element to be written, not null.
+     * @param buffer the buffer.
+     * @param offset the position of the first byte of the record.
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads the element from a record of {@link #width()} bytes.
+     *
+     * @param buffer the buffer.
+     * @param offset the position of the first byte of the record.
+     * @return the decoded element.
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Tells whether the unsigned lexicographic order of records is the natural order of the elements.
+     * Then the records can be sorted without decoding.
+     *
+     * @return true if the encoding preserves the natural order.
+     */
+    default boolean isOrderPreserving() {
+        return false;
+    }
+
+    /**
+     * Identifies the encoding in serialized lists, so the data is not read back with another codec.
+     * Built-in codecs use small positive numbers; 0 means a codec without an identity, then only the width is checked.
+     *
+     * @return the identifier of the encoding.
+     */
+    default int id() {
+        return 0;
+    }
+}
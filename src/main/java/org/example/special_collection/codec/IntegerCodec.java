@@ -0,0 +1,63 @@
+package org.example.special_collection.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes an Integer as 4 big-endian bytes with the sign bit flipped,
+ * so the byte order of records is the numeric order.
+ */
+public final class IntegerCodec implements ElementCodec<Integer> {
+    public static final IntegerCodec INSTANCE = new IntegerCodec();
+    /**
+     * The identifier of the encoding, see {@link ElementCodec#id()}.
+     */
+    public static final int ID = 1;
+
+    private IntegerCodec() {
+    }
+
+    @Override
+    public int width() {
+        return Integer.BYTES;
+    }
+
+    @Override
+    public void write(Integer value, ByteBuffer buffer, int offset) {
+        buffer.putInt(offset, encode(value));
+    }
+
+    @Override
+    public Integer read(ByteBuffer buffer, int offset) {
+        return decode(buffer.getInt(offset));
+    }
+
+    @Override
+    public boolean isOrderPreserving() {
+        return true;
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    /**
+     * Encodes a value the way records are written, without boxing.
+     *
+     * @param value the value.
+     * @return the encoded bits.
+     */
+    public static int encode(int value) {
+        return value ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Decodes a value encoded by {@link #encode(int)}.
+     *
+     * @param bits the encoded bits.
+     * @return the value.
+     */
+    public static int decode(int bits) {
+        return bits ^ Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.special_collection.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a Long as 8 big-endian bytes with the sign bit flipped,
+ * so the byte order of records is the numeric order.
+ */
+public final class LongCodec implements ElementCodec<Long> {
+    public static final LongCodec INSTANCE = new LongCodec();
+    /**
+     * The identifier of the encoding, see {@link ElementCodec#id()}.
+     */
+    public static final int ID = 2;
+
+    private LongCodec() {
+    }
+
+    @Override
+    public int width() {
+        return Long.BYTES;
+    }
+
+    @Override
+    public void write(Long value, ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, encode(value));
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer, int offset) {
+        return decode(buffer.getLong(offset));
+    }
+
+    @Override
+    public boolean isOrderPreserving() {
+        return true;
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    /**
+     * Encodes a value the way records are written, without boxing.
+     *
+     * @param value the value.
+     * @return the encoded bits.
+     */
+    public static long encode(long value) {
+        return value ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Decodes a value encoded by {@link #encode(long)}.
+     *
+     * @param bits the encoded bits.
+     * @return the value.
+     */
+    public static long decode(long bits) {
+        return bits ^ Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.special_collection.exception;
+
+/**
+ * Thrown to indicate that a list was used after its memory had been released by close()
+ */
+public class ClosedListException extends RuntimeException {
+    public ClosedListException() {
+        super("The list is closed!");
+    }
+}
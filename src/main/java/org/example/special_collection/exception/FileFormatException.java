@@ -0,0 +1,15 @@
+package org.example.special_collection.exception;
+
+/**
+ * Thrown to indicate that a data file does not hold a list or was written with another record format
+ */
+public class FileFormatException extends RuntimeException {
+    /**
+     * Indicate that the file header does not match.
+     *
+     * @param reason what exactly does not match.
+     */
+    public FileFormatException(String reason) {
+        super(String.format("The file is not a list of the expected format! %s", reason));
+    }
+}
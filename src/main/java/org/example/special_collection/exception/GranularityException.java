@@ -0,0 +1,10 @@
+package org.example.special_collection.exception;
+
+/**
+ * Thrown to indicate that the granularity of a parallel operation is not in expected range
+ */
+public class GranularityException extends RuntimeException {
+    public GranularityException(int granularity) {
+        super(String.format("Granularity must be more than zero! Your granularity = %d", granularity));
+    }
+}
@@ -15,6 +15,17 @@ public class IndexOutOfRangeException extends RuntimeException {
         super(String.format("Index out of rang! It must be in range from 0 to %d (include). Your index = %d", capacity - 1, index));
     }
 
+    /**
+     * indicate that the index is outside the range between two bounds, both included
+     *
+     * @param from  least allowed index.
+     * @param to    greatest allowed index.
+     * @param index current index.
+     */
+    public IndexOutOfRangeException(int from, int to, int index) {
+        super(String.format("Index out of rang! It must be in range from %d to %d (include). Your index = %d", from, to, index));
+    }
+
     /**
      * Indicate that the index is less than zero
      *
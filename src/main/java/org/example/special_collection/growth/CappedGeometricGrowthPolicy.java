@@ -0,0 +1,40 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.CapacityException;
+import org.example.special_collection.exception.ExpansionCoefficientException;
+
+/**
+ * Grows geometrically while the array is small, but never adds more than {@code maxIncrement} slots at once.
+ * Keeps the slack of very large arrays bounded.
+ */
+public class CappedGeometricGrowthPolicy implements GrowthPolicy {
+    private final double expansionCoefficient;
+    private final int maxIncrement;
+
+    /**
+     * @param expansionCoefficient the expansion coefficient. Must be greater than 1.0.
+     * @param maxIncrement         the maximal number of slots added on one growth.
+     * @throws ExpansionCoefficientException if the coefficient is less than (or equal to) 1.0.
+     * @throws CapacityException             if the increment is less than (or equal to) zero.
+     */
+    public CappedGeometricGrowthPolicy(double expansionCoefficient, int maxIncrement) {
+        if (expansionCoefficient <= 1.0)
+            throw new ExpansionCoefficientException(expansionCoefficient);
+        if (maxIncrement <= 0)
+            throw new CapacityException(maxIncrement);
+
+        this.expansionCoefficient = expansionCoefficient;
+        this.maxIncrement = maxIncrement;
+    }
+
+    @Override
+    public int grow(int capacity, int minCapacity) {
+        long increment = Math.min((long) (capacity * (expansionCoefficient - 1.0)) + 1, maxIncrement);
+        return GrowthPolicy.limit(capacity + increment, minCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "CappedGeometricGrowthPolicy{" + expansionCoefficient + ", " + maxIncrement + '}';
+    }
+}
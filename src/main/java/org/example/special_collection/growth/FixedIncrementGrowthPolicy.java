@@ -0,0 +1,33 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.CapacityException;
+
+/**
+ * Adds a constant number of slots to the capacity.
+ * Wastes at most {@code increment} slots, but every growth copies the whole array,
+ * so appending n elements costs O(n * n / increment).
+ */
+public class FixedIncrementGrowthPolicy implements GrowthPolicy {
+    private final int increment;
+
+    /**
+     * @param increment the number of slots added on every growth.
+     * @throws CapacityException if the increment is less than (or equal to) zero.
+     */
+    public FixedIncrementGrowthPolicy(int increment) {
+        if (increment <= 0)
+            throw new CapacityException(increment);
+
+        this.increment = increment;
+    }
+
+    @Override
+    public int grow(int capacity, int minCapacity) {
+        return GrowthPolicy.limit((long) capacity + increment, minCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "FixedIncrementGrowthPolicy{" + increment + '}';
+    }
+}
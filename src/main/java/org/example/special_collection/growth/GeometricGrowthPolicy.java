@@ -0,0 +1,31 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.ExpansionCoefficientException;
+
+/**
+ * Multiplies the capacity by a constant coefficient: amortized O(1) per added element.
+ */
+public class GeometricGrowthPolicy implements GrowthPolicy {
+    private final double expansionCoefficient;
+
+    /**
+     * @param expansionCoefficient the expansion coefficient. Must be greater than 1.0.
+     * @throws ExpansionCoefficientException if the coefficient is less than (or equal to) 1.0.
+     */
+    public GeometricGrowthPolicy(double expansionCoefficient) {
+        if (expansionCoefficient <= 1.0)
+            throw new ExpansionCoefficientException(expansionCoefficient);
+
+        this.expansionCoefficient = expansionCoefficient;
+    }
+
+    @Override
+    public int grow(int capacity, int minCapacity) {
+        return GrowthPolicy.limit((long) (capacity * expansionCoefficient) + 1, minCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "GeometricGrowthPolicy{" + expansionCoefficient + '}';
+    }
+}
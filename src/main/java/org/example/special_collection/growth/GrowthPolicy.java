@@ -0,0 +1,75 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.CapacityException;
+
+/**
+ * Strategy that decides how the internal array of a collection is resized.
+ * Called when the array is full (or too small for a bulk operation),
+ * and after elements were removed, to let the policy shrink the array.
+ */
+public interface GrowthPolicy {
+    /**
+     * The largest array size that can be allocated on common JVMs.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Computes the new capacity of a full array.
+     *
+     * @param capacity    the current capacity.
+     * @param minCapacity the capacity that is required, greater than the current one.
+     * @return the new capacity, not less than {@code minCapacity}.
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Computes the capacity after elements were removed.
+     * By default the array is never shrunk automatically.
+     *
+     * @param capacity the current capacity.
+     * @param size     the number of elements.
+     * @return the new capacity, not less than {@code size}; the current capacity to keep the array.
+     */
+    default int shrink(int capacity, int size) {
+        return capacity;
+    }
+
+    /**
+     * Returns a policy that grows like this one, and also shrinks the array
+     * when it is no more than a quarter full: to twice the number of elements.
+     * The gap between the two ratios prevents resizing back and forth around one size.
+     *
+     * @param minCapacity the capacity the array is never shrunk below.
+     * @return the shrinking policy.
+     * @throws CapacityException if the specified capacity is less than (or equal to) zero.
+     */
+    default GrowthPolicy withAutoShrink(int minCapacity) {
+        return new ShrinkingGrowthPolicy(this, minCapacity);
+    }
+
+    /**
+     * Returns a policy that grows like this one, and also shrinks the array
+     * when it is no more than a quarter full, but not below 10 elements.
+     *
+     * @return the shrinking policy.
+     * @see #withAutoShrink(int)
+     */
+    default GrowthPolicy withAutoShrink() {
+        return withAutoShrink(10);
+    }
+
+    /**
+     * Limits a computed capacity by {@link #MAX_CAPACITY} and raises it to the required capacity.
+     *
+     * @param capacity    the computed capacity, may be negative after an overflow.
+     * @param minCapacity the capacity that is required.
+     * @return the capacity to be allocated.
+     * @throws CapacityException if the required capacity is more than {@link #MAX_CAPACITY}.
+     */
+    static int limit(long capacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY)
+            throw new CapacityException(minCapacity, MAX_CAPACITY);
+
+        return (int) Math.max(minCapacity, Math.min(capacity, MAX_CAPACITY));
+    }
+}
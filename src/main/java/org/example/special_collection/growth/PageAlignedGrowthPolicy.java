@@ -0,0 +1,60 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.CapacityException;
+import org.example.special_collection.exception.ExpansionCoefficientException;
+
+/**
+ * Grows geometrically and rounds large capacities up to a whole number of pages,
+ * so the slack of a large array is never a fraction of a page the allocator would waste anyway.
+ * Small arrays (less than one page) are not rounded.
+ * The default page holds 1024 elements: a 4 KiB page of 4-byte (compressed) references.
+ */
+public class PageAlignedGrowthPolicy implements GrowthPolicy {
+    /**
+     * Number of 4-byte references in a 4 KiB page.
+     */
+    public static final int DEFAULT_PAGE_ELEMENTS = 1024;
+
+    private final double expansionCoefficient;
+    private final int pageElements;
+
+    /**
+     * Policy with the default page of 1024 elements.
+     *
+     * @param expansionCoefficient the expansion coefficient. Must be greater than 1.0.
+     * @throws ExpansionCoefficientException if the coefficient is less than (or equal to) 1.0.
+     */
+    public PageAlignedGrowthPolicy(double expansionCoefficient) {
+        this(expansionCoefficient, DEFAULT_PAGE_ELEMENTS);
+    }
+
+    /**
+     * @param expansionCoefficient the expansion coefficient. Must be greater than 1.0.
+     * @param pageElements         the number of elements in one page.
+     * @throws ExpansionCoefficientException if the coefficient is less than (or equal to) 1.0.
+     * @throws CapacityException             if the page size is less than (or equal to) zero.
+     */
+    public PageAlignedGrowthPolicy(double expansionCoefficient, int pageElements) {
+        if (expansionCoefficient <= 1.0)
+            throw new ExpansionCoefficientException(expansionCoefficient);
+        if (pageElements <= 0)
+            throw new CapacityException(pageElements);
+
+        this.expansionCoefficient = expansionCoefficient;
+        this.pageElements = pageElements;
+    }
+
+    @Override
+    public int grow(int capacity, int minCapacity) {
+        long newCapacity = Math.max((long) (capacity * expansionCoefficient) + 1, minCapacity);
+        if (newCapacity >= pageElements)
+            newCapacity = (newCapacity + pageElements - 1) / pageElements * pageElements;
+
+        return GrowthPolicy.limit(newCapacity, minCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "PageAlignedGrowthPolicy{" + expansionCoefficient + ", " + pageElements + '}';
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.CapacityException;
+
+/**
+ * Decorator that grows like the wrapped policy and shrinks the array
+ * to twice the number of elements once it is no more than a quarter full.
+ */
+final class ShrinkingGrowthPolicy implements GrowthPolicy {
+    private final GrowthPolicy growthPolicy;
+    private final int minCapacity;
+
+    ShrinkingGrowthPolicy(GrowthPolicy growthPolicy, int minCapacity) {
+        if (minCapacity <= 0)
+            throw new CapacityException(minCapacity);
+
+        this.growthPolicy = growthPolicy;
+        this.minCapacity = minCapacity;
+    }
+
+    @Override
+    public int grow(int capacity, int minCapacity) {
+        return growthPolicy.grow(capacity, minCapacity);
+    }
+
+    @Override
+    public int shrink(int capacity, int size) {
+        //сжимаем при заполнении на четверть и только до половины - иначе массив "дребезжит" на границе
+        if (capacity <= minCapacity || size > capacity >>> 2)
+            return capacity;
+
+        return Math.max(minCapacity, size << 1);
+    }
+
+    @Override
+    public String toString() {
+        return "ShrinkingGrowthPolicy{" + growthPolicy + ", " + minCapacity + '}';
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppendOnlySpecialListTest {
+    static final Random RANDOM = new Random();
+    static final int THREADS = 4;
+
+
+    @Test
+    void addGetTest() {
+        AppendOnlySpecialList<Integer> currentArr = new AppendOnlySpecialList<>();
+        Integer[] expectedArr = SortingTest.randomArr(100_000, 1000);
+
+        for (int i = 0; i < 50_000; i++) {
+            currentArr.add(expectedArr[i]);
+        }
+        currentArr.addAll(Arrays.copyOfRange(expectedArr, 50_000, 100_000));
+
+        assertEquals(expectedArr.length, currentArr.size());
+        for (int i = 0; i < expectedArr.length; i++) {
+            assertEquals(expectedArr[i], currentArr.get(i));
+        }
+        assertArrayEquals(expectedArr, currentArr.toArray());
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(expectedArr.length));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(-1));
+    }
+
+    @Test
+    void nullTest() {
+        AppendOnlySpecialList<Integer> currentArr = new AppendOnlySpecialList<>();
+
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.add(null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll(new Integer[]{1, null}));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.drainTo(null));
+        assertTrue(currentArr.isEmpty());
+    }
+
+    @Test
+    void capacityTest() {
+        AppendOnlySpecialList<Integer> currentArr = new AppendOnlySpecialList<>(100);
+        currentArr.addAll(SortingTest.randomArr(90, 100));
+
+        //не влезающая пачка ничего не резервирует, и список можно дописать до предела
+        Assertions.assertThrows(CapacityException.class, () -> currentArr.addAll(SortingTest.randomArr(20, 100)));
+        assertEquals(90, currentArr.size());
+        currentArr.addAll(SortingTest.randomArr(10, 100));
+        assertEquals(100, currentArr.size());
+
+        Assertions.assertThrows(CapacityException.class, () -> currentArr.add(1));
+        Assertions.assertThrows(CapacityException.class, () -> currentArr.addAll(new Integer[]{1}));
+        assertEquals(100, currentArr.size());
+    }
+
+    @Test
+    void drainToTest() {
+        AppendOnlySpecialList<Integer> currentArr = new AppendOnlySpecialList<>();
+        SpecialArrayList<Integer> target = new SpecialArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            currentArr.add(i);
+        }
+        assertEquals(1000, currentArr.drainTo(target));
+        assertEquals(0, currentArr.drainTo(target));
+        for (int i = 1000; i < 1500; i++) {
+            currentArr.add(i);
+        }
+        assertEquals(500, currentArr.drainTo(target));
+
+        assertEquals(1500, target.size());
+        for (int i = 0; i < 1500; i++) {
+            assertEquals(i, target.get(i));
+        }
+        assertEquals(1500, currentArr.drainedCount());
+        assertEquals(1500, currentArr.size());
+        assertTrue(currentArr.isEmpty());
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(0));
+        assertEquals(0, currentArr.toArray().length);
+    }
+
+    @Test
+    void concurrentAddTest() throws Exception {
+        AppendOnlySpecialList<Integer> currentArr = new AppendOnlySpecialList<>();
+        int perThread = 100_000;
+
+        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        currentArr.add(thread * perThread + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        Object[] values = currentArr.toArray();
+        assertEquals(THREADS * perThread, values.length);
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, values[i]);
+        }
+    }
+
+    @Test
+    void drainWhileAddingTest() throws Exception {
+        AppendOnlySpecialList<Integer> currentArr = new AppendOnlySpecialList<>();
+        SpecialArrayList<Integer> target = new SpecialArrayList<>();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        int perThread = 50_000;
+
+        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int t = 0; t < THREADS - 1; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        currentArr.add(thread * perThread + i);
+                    }
+                }));
+            }
+            Future<?> consumer = executor.submit(() -> {
+                while (producing.get()) {
+                    currentArr.drainTo(target);
+                    //опубликованный префикс никогда не содержит пустых слотов
+                    int size = currentArr.size();
+                    if (size > currentArr.drainedCount())
+                        assertNotNull(currentArr.toArray());
+                }
+            });
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            producing.set(false);
+            consumer.get();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        currentArr.drainTo(target);
+
+        int total = (THREADS - 1) * perThread;
+        assertEquals(total, target.size());
+        boolean[] seen = new boolean[total];
+        //порядок элементов одного производителя сохраняется
+        int[] last = new int[THREADS - 1];
+        Arrays.fill(last, -1);
+        for (int i = 0; i < total; i++) {
+            int value = target.get(i);
+            assertFalse(seen[value]);
+            seen[value] = true;
+            assertTrue(value > last[value / perThread]);
+            last[value / perThread] = value;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentSpecialArrayListTest {
+    static final Random RANDOM = new Random();
+    static final int THREADS = 4;
+
+
+    //single thread
+    @Test
+    void addGetRemoveTest() {
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            Integer val = RANDOM.nextInt(1000);
+            int index = RANDOM.nextInt(expectedArr.size() + 1);
+            expectedArr.add(index, val);
+            currentArr.add(index, val);
+        }
+        for (int i = 0; i < 500; i++) {
+            int index = RANDOM.nextInt(expectedArr.size());
+            assertEquals(expectedArr.remove(index), currentArr.remove(index));
+        }
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        for (int i = 0; i < expectedArr.size(); i++) {
+            assertEquals(expectedArr.get(i), currentArr.get(i));
+        }
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void outOfBoundTest() {
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        currentArr.addAll(new Integer[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(-1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.remove(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.add(4, 1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.replace(3, 1, 2));
+        Assertions.assertThrows(CapacityException.class, () -> new ConcurrentSpecialArrayList<>(0));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll((Integer[]) null));
+    }
+
+    @Test
+    void compoundOperationsTest() {
+        ConcurrentSpecialArrayList<String> currentArr = new ConcurrentSpecialArrayList<>();
+
+        assertTrue(currentArr.addIfAbsent("a"));
+        assertTrue(currentArr.addIfAbsent("b"));
+        assertFalse(currentArr.addIfAbsent("a"));
+        assertTrue(currentArr.replace(1, "b", "c"));
+        assertFalse(currentArr.replace(1, "b", "d"));
+
+        assertArrayEquals(new Object[]{"a", "c"}, currentArr.toArray());
+    }
+
+    @Test
+    void sortTest() {
+        Integer[] expectedArr = SortingTest.randomArr(10_000, 1000);
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        currentArr.addAll(Arrays.asList(expectedArr));
+
+        currentArr.sort();
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr.toArray());
+        Assertions.assertThrows(NotComparableException.class, () -> new ConcurrentSpecialArrayList<Integer>().sort());
+    }
+
+    @Test
+    void sortComparatorTest() {
+        Integer[] expectedArr = SortingTest.randomArr(10_000, 1000);
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        currentArr.addAll(Arrays.asList(expectedArr));
+
+        currentArr.sort(Comparator.reverseOrder());
+        Arrays.sort(expectedArr, Comparator.reverseOrder());
+        assertArrayEquals(expectedArr, currentArr.toArray());
+
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.sort(null));
+        currentArr.replace(5, null);
+        Assertions.assertThrows(SortNullElementException.class, currentArr::sort);
+        Assertions.assertThrows(SortNullElementException.class, () -> currentArr.sort(Comparator.nullsFirst(Comparator.naturalOrder())));
+        assertNull(currentArr.get(5));
+    }
+
+
+    //multiple threads
+    @Test
+    void concurrentAddTest() throws Exception {
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        int perThread = 50_000;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                currentArr.add(thread * perThread + i);
+            }
+        });
+
+        Object[] values = currentArr.toArray();
+        assertEquals(THREADS * perThread, values.length);
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i, values[i]);
+        }
+    }
+
+    @Test
+    void concurrentAddIfAbsentTest() throws Exception {
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        AtomicInteger added = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 2000; i++) {
+                if (currentArr.addIfAbsent(i))
+                    added.incrementAndGet();
+            }
+        });
+
+        assertEquals(2000, added.get());
+        assertEquals(2000, currentArr.size());
+    }
+
+    @Test
+    void concurrentReplaceTest() throws Exception {
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        currentArr.add(0);
+
+        //счётчик на compare-and-set: ни одно приращение не должно потеряться
+        runConcurrently(thread -> {
+            for (int i = 0; i < 10_000; i++) {
+                Integer current;
+                do {
+                    current = currentArr.get(0);
+                } while (!currentArr.replace(0, current, current + 1));
+            }
+        });
+
+        assertEquals(THREADS * 10_000, currentArr.get(0));
+    }
+
+    @Test
+    void readersSeeConsistentStateTest() throws Exception {
+        ConcurrentSpecialArrayList<Integer> currentArr = new ConcurrentSpecialArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    currentArr.add(i);
+                    if (i % 3 == 0)
+                        currentArr.remove(currentArr.size() - 1);
+                }
+            }));
+            for (int t = 1; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        //писатель добавляет возрастающие значения - в целостном снимке они строго возрастают
+                        Object[] snapshot = currentArr.toArray();
+                        for (int j = 1; j < snapshot.length; j++) {
+                            assertTrue((Integer) snapshot[j - 1] < (Integer) snapshot[j]);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    //private methods
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> task.run(thread)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.IntegerCodec;
+import org.example.special_collection.codec.LongCodec;
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedSpecialListTest {
+    static final Random RANDOM = new Random();
+
+    @TempDir
+    Path dir;
+
+
+    @Test
+    void openTest() {
+        Path file = dir.resolve("list.dat");
+        Assertions.assertThrows(NullParamException.class, () -> MappedSpecialList.open(null, LongCodec.INSTANCE));
+        Assertions.assertThrows(NullParamException.class, () -> MappedSpecialList.open(file, null));
+        Assertions.assertThrows(CapacityException.class, () -> MappedSpecialList.open(file, LongCodec.INSTANCE, 4));
+
+        try (MappedSpecialList<Long> list = MappedSpecialList.open(file, LongCodec.INSTANCE)) {
+            assertTrue(list.isEmpty());
+        }
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void addGetTest() {
+        List<Long> expectedArr = new ArrayList<>();
+        //маленькие сегменты, чтобы список рос через отображение новых
+        try (MappedSpecialList<Long> currentArr = MappedSpecialList.open(dir.resolve("list.dat"), LongCodec.INSTANCE, 256)) {
+            for (int i = 0; i < 10_000; i++) {
+                long value = RANDOM.nextLong();
+                expectedArr.add(value);
+                currentArr.add(value);
+            }
+
+            assertEquals(expectedArr.size(), currentArr.size());
+            for (int i = 0; i < expectedArr.size(); i++) {
+                assertEquals(expectedArr.get(i), currentArr.get(i));
+            }
+            assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+            Assertions.assertThrows(NullParamException.class, () -> currentArr.add(null));
+            Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(-1));
+            Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(expectedArr.size()));
+        }
+    }
+
+    @Test
+    void unreachableListTest() {
+        Path file = dir.resolve("list.dat");
+        try (MappedSpecialList<Long> list = MappedSpecialList.open(file, LongCodec.INSTANCE, 256)) {
+            for (long i = 0; i < 64; i++) {
+                list.add(i);
+            }
+        }
+
+        //список недостижим сразу после вызова get: Cleaner не должен снять отображение во время чтения
+        for (int round = 0; round < 200; round++) {
+            int index = round % 64;
+            if (round % 20 == 0)
+                System.gc();
+            assertEquals((long) index, MappedSpecialList.open(file, LongCodec.INSTANCE).get(index));
+        }
+    }
+
+    @Test
+    void reopenTest() {
+        Path file = dir.resolve("list.dat");
+        Integer[] values = SortingTest.randomArr(5000, 1000);
+
+        try (MappedSpecialList<Integer> list = MappedSpecialList.open(file, IntegerCodec.INSTANCE, 1024)) {
+            list.addAll(values);
+            list.replace(10, -1);
+            values[10] = -1;
+            list.force();
+        }
+
+        //размер сегмента берётся из файла, а не из параметра
+        try (MappedSpecialList<Integer> list = MappedSpecialList.open(file, IntegerCodec.INSTANCE, 4)) {
+            assertArrayEquals(values, list.toArray());
+            list.removeLast();
+            list.add(7);
+        }
+
+        try (MappedSpecialList<Integer> list = MappedSpecialList.open(file, IntegerCodec.INSTANCE)) {
+            assertEquals(5000, list.size());
+            assertEquals(7, list.get(4999));
+            list.clean();
+        }
+
+        try (MappedSpecialList<Integer> list = MappedSpecialList.open(file, IntegerCodec.INSTANCE)) {
+            assertTrue(list.isEmpty());
+            Assertions.assertThrows(IndexOutOfRangeException.class, list::removeLast);
+        }
+    }
+
+    @Test
+    void storedSizeTest() throws IOException {
+        Path file = dir.resolve("list.dat");
+        try (MappedSpecialList<Integer> list = MappedSpecialList.open(file, IntegerCodec.INSTANCE)) {
+            list.addAll(new Integer[]{1, 2, 3});
+            assertEquals(0, storedSize(file));
+
+            list.force();
+            assertEquals(3, storedSize(file));
+
+            list.add(4);
+            list.removeLast();
+            list.removeLast();
+            assertEquals(3, storedSize(file));
+        }
+        assertEquals(2, storedSize(file));
+    }
+
+    @Test
+    void wrongFileTest() throws IOException {
+        Path file = dir.resolve("list.dat");
+        try (MappedSpecialList<Integer> list = MappedSpecialList.open(file, IntegerCodec.INSTANCE)) {
+            list.add(1);
+        }
+        Assertions.assertThrows(FileFormatException.class, () -> MappedSpecialList.open(file, LongCodec.INSTANCE));
+
+        Path shortFile = Files.write(dir.resolve("short.dat"), new byte[100]);
+        Assertions.assertThrows(FileFormatException.class, () -> MappedSpecialList.open(shortFile, IntegerCodec.INSTANCE));
+
+        Path zeroFile = Files.write(dir.resolve("zero.dat"), new byte[MappedSpecialList.HEADER_SIZE]);
+        Assertions.assertThrows(FileFormatException.class, () -> MappedSpecialList.open(zeroFile, IntegerCodec.INSTANCE));
+    }
+
+    @Test
+    void closeTest() {
+        MappedSpecialList<Long> currentArr = MappedSpecialList.open(dir.resolve("list.dat"), LongCodec.INSTANCE);
+        currentArr.add(1L);
+        currentArr.close();
+        currentArr.close();
+
+        assertEquals(0, currentArr.size());
+        Assertions.assertThrows(ClosedListException.class, () -> currentArr.add(2L));
+        Assertions.assertThrows(ClosedListException.class, currentArr::force);
+        Assertions.assertThrows(ClosedListException.class, currentArr::toArray);
+        assertEquals("MappedSpecialList{closed}", currentArr.toString());
+    }
+
+    //размер, записанный в заголовке файла
+    private static long storedSize(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+            channel.read(buffer, MappedSpecialList.SIZE_OFFSET);
+            return buffer.flip().getLong();
+        }
+    }
+}
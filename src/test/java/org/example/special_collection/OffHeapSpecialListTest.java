@@ -0,0 +1,250 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.DoubleCodec;
+import org.example.special_collection.codec.ElementCodec;
+import org.example.special_collection.codec.IntegerCodec;
+import org.example.special_collection.codec.LongCodec;
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapSpecialListTest {
+    static final Random RANDOM = new Random();
+
+    /**
+     * Record of 12 bytes: an id and a long value, to check records that are not a multiple of 8.
+     */
+    static final ElementCodec<long[]> PAIR_CODEC = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return 12;
+        }
+
+        @Override
+        public void write(long[] value, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, value[0] ^ Long.MIN_VALUE);
+            buffer.putInt(offset + Long.BYTES, (int) value[1]);
+        }
+
+        @Override
+        public long[] read(ByteBuffer buffer, int offset) {
+            return new long[]{buffer.getLong(offset) ^ Long.MIN_VALUE, buffer.getInt(offset + Long.BYTES)};
+        }
+
+        @Override
+        public boolean isOrderPreserving() {
+            return true;
+        }
+    };
+
+
+    @Test
+    void constructorTest() {
+        Assertions.assertThrows(NullParamException.class, () -> new OffHeapSpecialList<Integer>(null));
+        Assertions.assertThrows(CapacityException.class, () -> new OffHeapSpecialList<>(LongCodec.INSTANCE, 7));
+
+        try (OffHeapSpecialList<Long> list = new OffHeapSpecialList<>(LongCodec.INSTANCE, 8)) {
+            list.add(1L);
+            list.add(2L);
+            assertEquals(2, list.size());
+            assertEquals(16, list.allocatedBytes());
+        }
+    }
+
+    @Test
+    void addGetTest() {
+        List<Integer> expectedArr = new ArrayList<>();
+        try (OffHeapSpecialList<Integer> currentArr = new OffHeapSpecialList<>(IntegerCodec.INSTANCE, 100)) {
+            for (int i = 0; i < 10_000; i++) {
+                int value = RANDOM.nextInt();
+                expectedArr.add(value);
+                currentArr.add(value);
+            }
+
+            assertEquals(expectedArr.size(), currentArr.size());
+            for (int i = 0; i < expectedArr.size(); i++) {
+                assertEquals(expectedArr.get(i), currentArr.get(i));
+            }
+            assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+            Assertions.assertThrows(NullParamException.class, () -> currentArr.add(null));
+            Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(-1));
+            Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(expectedArr.size()));
+        }
+    }
+
+    @Test
+    void addByIndexRemoveTest() {
+        List<Integer> expectedArr = new ArrayList<>();
+        //маленькие страницы, чтобы сдвиги пересекали границы
+        try (OffHeapSpecialList<Integer> currentArr = new OffHeapSpecialList<>(IntegerCodec.INSTANCE, 28)) {
+            for (int i = 0; i < 2000; i++) {
+                int value = RANDOM.nextInt(1000);
+                int index = RANDOM.nextInt(expectedArr.size() + 1);
+                expectedArr.add(index, value);
+                currentArr.add(index, value);
+            }
+            assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+            for (int i = 0; i < 1500; i++) {
+                int index = RANDOM.nextInt(expectedArr.size());
+                expectedArr.remove(index);
+                currentArr.remove(index);
+            }
+            assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+            Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.add(-1, 1));
+            Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.remove(expectedArr.size()));
+        }
+    }
+
+    @Test
+    void replaceAddAllTest() {
+        Integer[] values = SortingTest.randomArr(1000, 100);
+        try (OffHeapSpecialList<Integer> currentArr = new OffHeapSpecialList<>(IntegerCodec.INSTANCE, 64)) {
+            currentArr.addAll(values);
+            currentArr.replace(500, -7);
+            values[500] = -7;
+
+            assertArrayEquals(values, currentArr.toArray());
+            Assertions.assertThrows(NullParamException.class, () -> currentArr.replace(0, null));
+            Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll(new Integer[]{1, null}));
+            assertEquals(1000, currentArr.size());
+        }
+    }
+
+    @Test
+    void cleanTrimTest() {
+        try (OffHeapSpecialList<Long> currentArr = new OffHeapSpecialList<>(LongCodec.INSTANCE, 64)) {
+            for (long i = 0; i < 100; i++) {
+                currentArr.add(i);
+            }
+            assertEquals(13 * 64, currentArr.allocatedBytes());
+
+            for (int i = 0; i < 75; i++) {
+                currentArr.remove(currentArr.size() - 1);
+            }
+            currentArr.trim();
+            assertEquals(4 * 64, currentArr.allocatedBytes());
+
+            currentArr.clean();
+            assertTrue(currentArr.isEmpty());
+            assertEquals(64, currentArr.allocatedBytes());
+            currentArr.add(5L);
+            assertEquals(5L, currentArr.get(0));
+        }
+    }
+
+    @Test
+    void closeTest() {
+        OffHeapSpecialList<Integer> currentArr = new OffHeapSpecialList<>(IntegerCodec.INSTANCE);
+        currentArr.add(1);
+        currentArr.close();
+        currentArr.close();
+
+        assertEquals(0, currentArr.size());
+        assertEquals(0, currentArr.allocatedBytes());
+        Assertions.assertThrows(ClosedListException.class, () -> currentArr.add(2));
+        Assertions.assertThrows(ClosedListException.class, currentArr::toArray);
+        Assertions.assertThrows(ClosedListException.class, currentArr::sortEncoded);
+        Assertions.assertThrows(ClosedListException.class, () -> currentArr.add(0, 2));
+        Assertions.assertThrows(ClosedListException.class, () -> currentArr.remove(0));
+        Assertions.assertThrows(ClosedListException.class, () -> currentArr.get(0));
+        Assertions.assertThrows(ClosedListException.class, () -> currentArr.replace(0, 2));
+        assertEquals("OffHeapSpecialList{closed}", currentArr.toString());
+    }
+
+    @Test
+    void unreachableListTest() {
+        //список недостижим сразу после вызова get: Cleaner не должен освободить страницу во время чтения
+        for (int round = 0; round < 1000; round++) {
+            int index = round % 64;
+            if (round % 50 == 0)
+                System.gc();
+            assertEquals((long) index, filledList(64).get(index));
+            assertEquals(64, filledList(64).toArray().length);
+        }
+    }
+
+    private static OffHeapSpecialList<Long> filledList(int size) {
+        OffHeapSpecialList<Long> list = new OffHeapSpecialList<>(LongCodec.INSTANCE, 64);
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    void sortTest() {
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 1000, 20_000}) {
+            Integer[] values = SortingTest.randomArr(size, size / 4 + 1);
+            try (OffHeapSpecialList<Integer> currentArr = new OffHeapSpecialList<>(IntegerCodec.INSTANCE, 1024)) {
+                currentArr.addAll(values);
+                currentArr.sort(Comparator.reverseOrder());
+
+                Arrays.sort(values, Comparator.reverseOrder());
+                assertArrayEquals(values, currentArr.toArray());
+                Assertions.assertThrows(NullParamException.class, () -> currentArr.sort(null));
+            }
+        }
+    }
+
+    @Test
+    void sortEncodedTest() {
+        for (int size : new int[]{0, 1, 2, 15, 16, 17, 1000, 20_000}) {
+            Integer[] ints = new Integer[size];
+            Double[] doubles = new Double[size];
+            long[][] pairs = new long[size][];
+            for (int i = 0; i < size; i++) {
+                ints[i] = RANDOM.nextInt(size / 2 + 1) - size / 4;
+                doubles[i] = RANDOM.nextGaussian();
+                pairs[i] = new long[]{RANDOM.nextInt(10) - 5L, RANDOM.nextInt(1000)};
+            }
+
+            try (OffHeapSpecialList<Integer> intList = new OffHeapSpecialList<>(IntegerCodec.INSTANCE, 4096);
+                 OffHeapSpecialList<Double> doubleList = new OffHeapSpecialList<>(DoubleCodec.INSTANCE, 4096);
+                 OffHeapSpecialList<long[]> pairList = new OffHeapSpecialList<>(PAIR_CODEC, 4096)) {
+                intList.addAll(ints);
+                doubleList.addAll(doubles);
+                pairList.addAll(pairs);
+
+                intList.sortEncoded();
+                doubleList.sortEncoded();
+                pairList.sortEncoded();
+
+                Arrays.sort(ints);
+                Arrays.sort(doubles);
+                Arrays.sort(pairs, Comparator.<long[]>comparingLong(p -> p[0]).thenComparingLong(p -> p[1]));
+                assertArrayEquals(ints, intList.toArray());
+                assertArrayEquals(doubles, doubleList.toArray());
+                for (int i = 0; i < size; i++) {
+                    assertArrayEquals(pairs[i], pairList.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void codecOrderTest() {
+        double[] special = {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+                Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY};
+        try (OffHeapSpecialList<Double> currentArr = new OffHeapSpecialList<>(DoubleCodec.INSTANCE)) {
+            for (int i = special.length - 1; i >= 0; i--) {
+                currentArr.add(special[i]);
+            }
+            currentArr.sortEncoded();
+            for (int i = 0; i < special.length; i++) {
+                assertEquals(Double.doubleToRawLongBits(special[i]), Double.doubleToRawLongBits(currentArr.get(i)));
+            }
+        }
+    }
+}
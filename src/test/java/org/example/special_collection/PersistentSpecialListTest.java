@@ -0,0 +1,145 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentSpecialListTest {
+    static final Random RANDOM = new Random();
+
+
+    @Test
+    void addGetTest() {
+        List<Integer> expectedArr = new ArrayList<>();
+        PersistentSpecialList<Integer> currentArr = PersistentSpecialList.empty();
+
+        for (int i = 0; i < 100_000; i++) {
+            expectedArr.add(i);
+            currentArr = currentArr.add(i);
+        }
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        for (int i = 0; i < expectedArr.size(); i++) {
+            assertEquals(expectedArr.get(i), currentArr.get(i));
+        }
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void versionsTest() {
+        PersistentSpecialList<Integer> first = PersistentSpecialList.of(SortingTest.randomArr(5000, 100));
+        Object[] expectedArr = first.toArray();
+
+        PersistentSpecialList<Integer> second = first.replace(1234, -1).add(-2);
+        PersistentSpecialList<Integer> third = second.slice(100, 200).concat(first);
+
+        assertArrayEquals(expectedArr, first.toArray());
+        assertEquals(-1, second.get(1234));
+        assertEquals(-2, second.get(5000));
+        assertEquals(expectedArr[1234], first.get(1234));
+        assertEquals(5100, third.size());
+        assertEquals(expectedArr[100], third.get(0));
+    }
+
+    @Test
+    void builderTest() {
+        for (int size : new int[]{0, 1, 31, 32, 33, 1024, 1025, 32 * 32 * 32, 32 * 32 * 32 + 7, 100_000}) {
+            Integer[] values = SortingTest.randomArr(size, 1000);
+            PersistentSpecialList.Builder<Integer> builder = PersistentSpecialList.builder();
+            for (int i = 0; i < size / 2; i++) {
+                builder.add(values[i]);
+            }
+            PersistentSpecialList<Integer> half = builder.build();
+            builder.addAll(Arrays.copyOfRange(values, size / 2, size));
+            PersistentSpecialList<Integer> currentArr = builder.build();
+
+            assertArrayEquals(values, currentArr.toArray());
+            assertEquals(size / 2, half.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(values[i], currentArr.get(i));
+            }
+            assertEquals(currentArr.add(1), currentArr.concat(PersistentSpecialList.of(new Integer[]{1})));
+        }
+    }
+
+    @Test
+    void concatSliceTest() {
+        List<Integer> expectedArr = new ArrayList<>();
+        PersistentSpecialList<Integer> currentArr = PersistentSpecialList.empty();
+
+        //случайные склейки и срезы создают узлы с таблицами размеров на всех уровнях
+        for (int step = 0; step < 300; step++) {
+            int operation = RANDOM.nextInt(4);
+            if (operation == 0 || expectedArr.isEmpty()) {
+                Integer[] values = SortingTest.randomArr(RANDOM.nextInt(3000), 1000);
+                expectedArr.addAll(List.of(values));
+                currentArr = currentArr.concat(PersistentSpecialList.of(values));
+            } else if (operation == 1) {
+                int from = RANDOM.nextInt(expectedArr.size());
+                int to = from + RANDOM.nextInt(expectedArr.size() - from + 1);
+                expectedArr = new ArrayList<>(expectedArr.subList(from, to));
+                currentArr = currentArr.slice(from, to);
+            } else if (operation == 2) {
+                List<Integer> copy = new ArrayList<>(expectedArr);
+                expectedArr.addAll(copy);
+                currentArr = currentArr.concat(currentArr);
+                if (expectedArr.size() > 200_000) {
+                    expectedArr = new ArrayList<>(expectedArr.subList(0, 50_000));
+                    currentArr = currentArr.slice(0, 50_000);
+                }
+            } else {
+                int index = RANDOM.nextInt(expectedArr.size());
+                expectedArr.set(index, -index);
+                currentArr = currentArr.replace(index, -index).add(step);
+                expectedArr.add(step);
+            }
+
+            assertEquals(expectedArr.size(), currentArr.size());
+            for (int i = 0; i < 50 && !expectedArr.isEmpty(); i++) {
+                int index = RANDOM.nextInt(expectedArr.size());
+                assertEquals(expectedArr.get(index), currentArr.get(index));
+            }
+        }
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void smallConcatTest() {
+        for (int left = 0; left < 70; left++) {
+            for (int right = 0; right < 70; right++) {
+                Integer[] leftValues = SortingTest.randomArr(left, 100);
+                Integer[] rightValues = SortingTest.randomArr(right, 100);
+                Object[] currentArr = PersistentSpecialList.of(leftValues)
+                        .concat(PersistentSpecialList.of(rightValues)).add(-1).toArray();
+
+                assertEquals(left + right + 1, currentArr.length);
+                for (int i = 0; i < left; i++) {
+                    assertEquals(leftValues[i], currentArr[i]);
+                }
+                for (int i = 0; i < right; i++) {
+                    assertEquals(rightValues[i], currentArr[left + i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void wrongParamsTest() {
+        PersistentSpecialList<Integer> currentArr = PersistentSpecialList.of(new Integer[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.replace(-1, 1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.slice(2, 1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.slice(0, 4));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.concat(null));
+        Assertions.assertThrows(NullParamException.class, () -> PersistentSpecialList.of(null));
+        assertTrue(currentArr.slice(1, 1).isEmpty());
+    }
+}
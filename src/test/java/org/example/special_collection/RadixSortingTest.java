@@ -0,0 +1,76 @@
+package org.example.special_collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortingTest {
+    static final Random RANDOM = new Random();
+
+    @Test
+    void sortByIntKeyStabilityTest() {
+        for (int capacity : new int[]{1, 2, 255, 256, 257, 100_000}) {
+            int[][] currentArr = new int[capacity][];
+            for (int i = 0; i < capacity; i++) {
+                currentArr[i] = new int[]{RANDOM.nextInt(50) - 25, i};
+            }
+            int[][] expectedArr = currentArr.clone();
+
+            RadixSorting.sortByIntKey(currentArr, capacity, x -> x[0], null, new int[capacity], new int[capacity]);
+            Arrays.sort(expectedArr, Comparator.comparingInt(x -> x[0]));
+
+            assertArrayEquals(expectedArr, currentArr);
+        }
+    }
+
+    @Test
+    void sortByIntKeyRandomTest() {
+        Integer[] currentArr = new Integer[100_000];
+        for (int i = 0; i < currentArr.length; i++) {
+            currentArr[i] = RANDOM.nextInt();
+        }
+        currentArr[0] = Integer.MIN_VALUE;
+        currentArr[1] = Integer.MAX_VALUE;
+        Integer[] expectedArr = currentArr.clone();
+
+        int[] keys = new int[currentArr.length];
+        int[] targetKeys = new int[currentArr.length];
+        Object[] buffer = RadixSorting.sortByIntKey(currentArr, currentArr.length, Integer::intValue, null, keys, targetKeys);
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr);
+        //буфер очищен и пригоден для следующего вызова
+        assertTrue(Arrays.stream(buffer).allMatch(x -> x == null));
+        assertSame(buffer, RadixSorting.sortByIntKey(currentArr, currentArr.length, x -> -x, buffer, keys, targetKeys));
+    }
+
+    @Test
+    void sortByLongKeyTest() {
+        long[][] currentArr = new long[100_000][];
+        for (int i = 0; i < currentArr.length; i++) {
+            currentArr[i] = new long[]{RANDOM.nextLong() >> RANDOM.nextInt(64), i};
+        }
+        currentArr[0][0] = Long.MIN_VALUE;
+        currentArr[1][0] = Long.MAX_VALUE;
+        currentArr[2][0] = currentArr[3][0];
+        long[][] expectedArr = currentArr.clone();
+
+        RadixSorting.sortByLongKey(currentArr, currentArr.length, x -> x[0], null,
+                new long[currentArr.length], new long[currentArr.length]);
+        Arrays.sort(expectedArr, Comparator.comparingLong(x -> x[0]));
+
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void sortPrefixTest() {
+        Integer[] currentArr = {5, 3, 9, 1, 7};
+        RadixSorting.sortByLongKey(currentArr, 3, Integer::longValue, new Object[1], new long[5], new long[5]);
+
+        assertArrayEquals(new Integer[]{3, 5, 9, 1, 7}, currentArr);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedSpecialArrayListTest {
+    static final Random RANDOM = new Random();
+
+
+    @Test
+    void addTest() {
+        Integer[] values = SortingTest.randomArr(1000, 100);
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+
+        Arrays.sort(values);
+        assertEquals(1000, list.size());
+        assertArrayEquals(values, list.toArray());
+
+        Assertions.assertThrows(NullParamException.class, () -> list.add(null));
+        Assertions.assertThrows(NotComparableException.class, () -> new SortedSpecialArrayList<Object>().add(new Object()));
+        Assertions.assertThrows(NullParamException.class, () -> new SortedSpecialArrayList<Integer>(null));
+    }
+
+    @Test
+    void addAllTest() {
+        List<Integer> expected = new ArrayList<>();
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>(Comparator.reverseOrder());
+        for (int i = 0; i < 20; i++) {
+            Integer[] batch = SortingTest.randomArr(RANDOM.nextInt(200), 1000);
+            list.addAll(batch);
+            expected.addAll(Arrays.asList(batch));
+            expected.sort(Comparator.reverseOrder());
+            assertArrayEquals(expected.toArray(), list.toArray());
+        }
+
+        list.addAll(Arrays.asList(5, 1, 3));
+        expected.addAll(Arrays.asList(5, 1, 3));
+        expected.sort(Comparator.reverseOrder());
+        assertArrayEquals(expected.toArray(), list.toArray());
+
+        int size = list.size();
+        Assertions.assertThrows(NullParamException.class, () -> list.addAll(new Integer[]{1, null}));
+        Assertions.assertThrows(NullParamException.class, () -> list.addAll((Integer[]) null));
+        assertEquals(size, list.size());
+    }
+
+    @Test
+    void stableTest() {
+        SortedSpecialArrayList<String> list = new SortedSpecialArrayList<>(Comparator.comparingInt(String::length));
+        list.add("bb");
+        list.add("a");
+        list.add("cc");
+        list.addAll(new String[]{"dd", "e"});
+
+        assertArrayEquals(new Object[]{"a", "e", "bb", "cc", "dd"}, list.toArray());
+    }
+
+    @Test
+    void lookupTest() {
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>();
+        list.addAll(new Integer[]{10, 20, 20, 20, 30, 40});
+
+        assertEquals(1, list.indexOf(20));
+        assertEquals(-1, list.indexOf(25));
+        assertEquals(-1, list.indexOf(50));
+        assertTrue(list.contains(40));
+        assertFalse(list.contains(5));
+
+        assertEquals(20, list.floor(25));
+        assertEquals(20, list.floor(20));
+        assertNull(list.floor(9));
+        assertEquals(30, list.ceiling(25));
+        assertEquals(10, list.ceiling(1));
+        assertNull(list.ceiling(41));
+
+        Assertions.assertThrows(NullParamException.class, () -> list.indexOf(null));
+        Assertions.assertThrows(NullParamException.class, () -> list.floor(null));
+        Assertions.assertThrows(NullParamException.class, () -> list.ceiling(null));
+    }
+
+    @Test
+    void randomLookupTest() {
+        Integer[] values = SortingTest.randomArr(2000, 500);
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>();
+        list.addAll(values);
+        List<Integer> sorted = new ArrayList<>(Arrays.asList(values));
+        sorted.sort(null);
+
+        for (int i = 0; i < 200; i++) {
+            Integer key = RANDOM.nextInt(600) - 50;
+            assertEquals(sorted.indexOf(key), list.indexOf(key));
+            assertEquals(sorted.contains(key), list.contains(key));
+        }
+    }
+
+    @Test
+    void rangeViewTest() {
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>();
+        list.addAll(new Integer[]{10, 20, 20, 30, 40, 50});
+
+        SpecialSubList<Integer> view = list.rangeView(20, 40);
+        assertArrayEquals(new Object[]{20, 20, 30}, view.toArray());
+        assertTrue(list.rangeView(41, 50).isEmpty());
+        assertTrue(list.rangeView(40, 20).isEmpty());
+        assertArrayEquals(new Object[]{10, 20, 20, 30, 40, 50}, list.rangeView(0, 100).toArray());
+
+        view.clean();
+        assertArrayEquals(new Object[]{10, 40, 50}, list.toArray());
+
+        SpecialSubList<Integer> other = list.rangeView(0, 100);
+        list.add(15);
+        Assertions.assertThrows(ConcurrentModificationException.class, other::toArray);
+        Assertions.assertThrows(NullParamException.class, () -> list.rangeView(null, 10));
+    }
+
+    @Test
+    void removeCleanTest() {
+        SortedSpecialArrayList<Integer> list = new SortedSpecialArrayList<>();
+        list.addAll(new Integer[]{3, 1, 2});
+
+        list.remove(1);
+        assertArrayEquals(new Object[]{1, 3}, list.toArray());
+        assertEquals(3, list.get(1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> list.get(2));
+
+        list.clean();
+        assertTrue(list.isEmpty());
+        list.add(7);
+        assertEquals("SortedSpecialArrayList{[7]}", list.toString());
+    }
+}
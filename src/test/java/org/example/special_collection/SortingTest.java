@@ -0,0 +1,163 @@
+package org.example.special_collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingTest {
+    static final Random RANDOM = new Random();
+    static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    @Test
+    void introsortRandomTest() {
+        for (int capacity : new int[]{1, 2, 15, 16, 17, 128, 129, 10_000}) {
+            Integer[] currentArr = randomArr(capacity, 1000);
+            Integer[] expectedArr = currentArr.clone();
+
+            Sorting.introsort(currentArr, 0, capacity - 1, NATURAL);
+            Arrays.sort(expectedArr);
+
+            assertArrayEquals(expectedArr, currentArr);
+        }
+    }
+
+    @Test
+    void introsortRangeTest() {
+        Integer[] currentArr = randomArr(1000, 100);
+        Integer[] expectedArr = currentArr.clone();
+
+        Sorting.introsort(currentArr, 100, 899, NATURAL);
+        Arrays.sort(expectedArr, 100, 900);
+
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void introsortOrganPipeTest() {
+        int capacity = 100_000;
+        Integer[] currentArr = new Integer[capacity];
+        for (int i = 0; i < capacity; i++) {
+            currentArr[i] = i < capacity / 2 ? i : capacity - i;
+        }
+        Integer[] expectedArr = currentArr.clone();
+
+        Sorting.introsort(currentArr, 0, capacity - 1, NATURAL);
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void partitionTest() {
+        Integer[] arr = randomArr(1000, 10);
+
+        long bounds = Sorting.partition(arr, 0, arr.length - 1, NATURAL);
+        int lessEnd = Sorting.lessEnd(bounds);
+        int greaterStart = Sorting.greaterStart(bounds);
+        Integer pivot = arr[lessEnd + 1];
+
+        for (int i = 0; i <= lessEnd; i++) {
+            assertTrue(arr[i] < pivot);
+        }
+        for (int i = lessEnd + 1; i < greaterStart; i++) {
+            assertEquals(pivot, arr[i]);
+        }
+        for (int i = greaterStart; i < arr.length; i++) {
+            assertTrue(arr[i] > pivot);
+        }
+    }
+
+    @Test
+    void heapsortTest() {
+        Integer[] currentArr = randomArr(1000, 100);
+        Integer[] expectedArr = currentArr.clone();
+
+        Sorting.heapsort(currentArr, 0, currentArr.length - 1, NATURAL);
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void insertionSortTest() {
+        Integer[] currentArr = randomArr(100, 10);
+        Integer[] expectedArr = currentArr.clone();
+
+        Sorting.insertionSort(currentArr, 0, currentArr.length - 1, NATURAL);
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void selectTest() {
+        for (int capacity : new int[]{1, 15, 17, 1000, 10_000}) {
+            Integer[] currentArr = randomArr(capacity, 1000);
+            Integer[] expectedArr = currentArr.clone();
+            Arrays.sort(expectedArr);
+
+            int k = RANDOM.nextInt(capacity);
+            Sorting.select(currentArr, 0, capacity - 1, k, NATURAL);
+
+            assertEquals(expectedArr[k], currentArr[k]);
+            for (int i = 0; i < capacity; i++) {
+                assertTrue(i < k ? currentArr[i] <= currentArr[k] : currentArr[i] >= currentArr[k]);
+            }
+        }
+    }
+
+    @Test
+    void partialSortTest() {
+        Integer[] currentArr = randomArr(10_000, 100_000);
+        Integer[] expectedArr = currentArr.clone();
+        Arrays.sort(expectedArr);
+
+        Sorting.partialSort(currentArr, 0, currentArr.length - 1, 100, NATURAL);
+        assertArrayEquals(Arrays.copyOf(expectedArr, 100), Arrays.copyOf(currentArr, 100));
+        Arrays.sort(currentArr);
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void smallestTest() {
+        Integer[] arr = randomArr(10_000, 100_000);
+        Integer[] original = arr.clone();
+        Integer[] expectedArr = arr.clone();
+        Arrays.sort(expectedArr, Comparator.reverseOrder());
+
+        Integer[] heap = new Integer[100];
+        Sorting.smallest(arr, 0, arr.length - 1, heap, Comparator.reverseOrder());
+
+        assertArrayEquals(Arrays.copyOf(expectedArr, 100), heap);
+        assertArrayEquals(original, arr);
+    }
+
+    @Test
+    void sortByKeyTest() {
+        Integer[] currentArr = randomArr(10_000, 1000);
+        Integer[] expectedArr = currentArr.clone();
+        int[] keyCalls = {0};
+
+        Object[] buffer = Sorting.sortByKey(currentArr, currentArr.length, x -> {
+            keyCalls[0]++;
+            return String.valueOf(x);
+        }, Comparator.naturalOrder(), null);
+        Arrays.sort(expectedArr, Comparator.comparing(String::valueOf));
+
+        assertArrayEquals(expectedArr, currentArr);
+        assertEquals(10_000, keyCalls[0]);
+        assertTrue(Arrays.stream(buffer).allMatch(x -> x == null));
+    }
+
+    static Integer[] randomArr(int capacity, int bound) {
+        Integer[] arr = new Integer[capacity];
+        for (int i = 0; i < capacity; i++) {
+            arr[i] = RANDOM.nextInt(bound);
+        }
+        return arr;
+    }
+}
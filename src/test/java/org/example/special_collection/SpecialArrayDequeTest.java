@@ -0,0 +1,157 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialArrayDequeTest {
+    static final Random RANDOM = new Random();
+
+    @Test
+    void addFirstAndLastTest() {
+        SpecialArrayDeque<Integer> currentArr = new SpecialArrayDeque<>(4);
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            if (i % 3 == 0) {
+                currentArr.addFirst(i);
+                expectedArr.add(0, i);
+            } else {
+                currentArr.addLast(i);
+                expectedArr.add(i);
+            }
+        }
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+        assertEquals(expectedArr.get(0), currentArr.getFirst());
+        assertEquals(expectedArr.get(expectedArr.size() - 1), currentArr.getLast());
+    }
+
+    @Test
+    void queueTest() {
+        SpecialArrayDeque<Integer> currentArr = new SpecialArrayDeque<>(8);
+        ArrayDeque<Integer> expectedArr = new ArrayDeque<>();
+
+        //голова многократно проходит через конец массива
+        for (int i = 0; i < 100_000; i++) {
+            currentArr.add(i);
+            expectedArr.addLast(i);
+            if (i % 4 != 0)
+                assertEquals(expectedArr.removeFirst(), currentArr.removeFirst());
+        }
+
+        assertEquals(25_000, currentArr.size());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void randomOperationsTest() {
+        SpecialArrayDeque<Integer> currentArr = new SpecialArrayDeque<>(10);
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = RANDOM.nextInt(6);
+            if (operation < 2 || expectedArr.isEmpty()) {
+                int index = RANDOM.nextInt(expectedArr.size() + 1);
+                currentArr.add(index, i);
+                expectedArr.add(index, i);
+            } else if (operation == 2) {
+                int index = RANDOM.nextInt(expectedArr.size());
+                currentArr.remove(index);
+                expectedArr.remove(index);
+            } else if (operation == 3) {
+                assertEquals(expectedArr.remove(0), currentArr.removeFirst());
+            } else if (operation == 4) {
+                assertEquals(expectedArr.remove(expectedArr.size() - 1), currentArr.removeLast());
+            } else {
+                currentArr.addFirst(i);
+                expectedArr.add(0, i);
+            }
+        }
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        for (int i = 0; i < expectedArr.size(); i++) {
+            assertEquals(expectedArr.get(i), currentArr.get(i));
+        }
+    }
+
+    @Test
+    void outOfBoundTest() {
+        SpecialArrayDeque<Integer> currentArr = new SpecialArrayDeque<>(new Integer[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.add(-1, 42));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.remove(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.replace(3, 42));
+
+        currentArr.clean();
+        Assertions.assertThrows(IndexOutOfRangeException.class, currentArr::removeFirst);
+        Assertions.assertThrows(IndexOutOfRangeException.class, currentArr::removeLast);
+    }
+
+    @Test
+    void addAllWrappedTest() {
+        SpecialArrayDeque<Integer> currentArr = new SpecialArrayDeque<>(10);
+        for (int i = 0; i < 8; i++) {
+            currentArr.add(i);
+        }
+        for (int i = 0; i < 6; i++) {
+            currentArr.removeFirst();
+        }
+
+        currentArr.addAll(new Integer[]{8, 9, 10, 11});
+        currentArr.addAll(new Integer[]{12, 13, 14, 15, 16});
+
+        assertArrayEquals(new Integer[]{6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16}, currentArr.toArray(new Integer[0]));
+    }
+
+    @Test
+    void sortTest() {
+        SpecialArrayDeque<Integer> currentArr = new SpecialArrayDeque<>(100);
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int val = RANDOM.nextInt(1000);
+            currentArr.addFirst(val);
+            expectedArr.add(val);
+        }
+
+        currentArr.sort();
+        expectedArr.sort(Comparator.naturalOrder());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+        currentArr.sort(Comparator.reverseOrder());
+        expectedArr.sort(Comparator.reverseOrder());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+        currentArr.add(null);
+        Assertions.assertThrows(SortNullElementException.class, currentArr::sort);
+    }
+
+    @Test
+    void trimAndEqualsTest() {
+        SpecialArrayDeque<String> arr1 = new SpecialArrayDeque<>(Arrays.asList("a", "b", "c"));
+        SpecialArrayDeque<String> arr2 = new SpecialArrayDeque<>(100);
+        arr2.add("b");
+        arr2.add("c");
+        arr2.addFirst("a");
+
+        assertEquals(arr1, arr2);
+        assertEquals(arr1.hashCode(), arr2.hashCode());
+
+        arr2.trim();
+        assertEquals(arr1, arr2);
+        arr2.addFirst("z");
+        assertEquals("z", arr2.get(0));
+        assertEquals(4, arr2.size());
+    }
+}
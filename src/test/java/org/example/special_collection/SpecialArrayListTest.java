@@ -1,13 +1,38 @@
 package org.example.special_collection;
 
+import org.example.special_collection.codec.IntegerCodec;
+import org.example.special_collection.codec.LongCodec;
 import org.example.special_collection.exception.*;
+import org.example.special_collection.growth.FixedIncrementGrowthPolicy;
+import org.example.special_collection.growth.GeometricGrowthPolicy;
+import org.example.special_collection.growth.GrowthPolicy;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -378,6 +403,218 @@ class SpecialArrayListTest {
 
     }
 
+    @Test
+    void sortSortedTest() {
+        int capacity = 500_000;
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(i);
+        }
+
+        currentArr.sort();
+
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void sortReversedTest() {
+        int capacity = 500_000;
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(capacity - i - 1);
+        }
+
+        currentArr.sort(Comparator.comparingInt(x -> x));
+
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void sortAllEqualTest() {
+        int capacity = 500_000;
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(42);
+        }
+
+        currentArr.sort();
+
+        assertEquals(capacity, currentArr.size());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(42, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void sortFewUniqueTest() {
+        int capacity = 100_000;
+        ArrayList<Integer> expectedArr = new ArrayList<>(capacity);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            Integer val = RANDOM.nextInt(3);
+            currentArr.add(val);
+            expectedArr.add(val);
+        }
+
+        currentArr.sort();
+        expectedArr.sort(Comparator.comparingInt(x -> x));
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    //stable sort
+    @Test
+    void stableSortComparatorTest() {
+        int capacity = 10_000;
+        ArrayList<String> expectedArr = new ArrayList<>(capacity);
+        SpecialArrayList<String> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            String val = RANDOM.nextInt(100) + ":" + i;
+            currentArr.add(val);
+            expectedArr.add(val);
+        }
+
+        //сравниваются только ключи до ':', порядок равных должен сохраниться
+        Comparator<String> byKey = Comparator.comparingInt(x -> Integer.parseInt(x.substring(0, x.indexOf(':'))));
+        currentArr.stableSort(byKey);
+        expectedArr.sort(byKey);
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void stableSortNearlySortedTest() {
+        int capacity = 100_000;
+        ArrayList<Integer> expectedArr = new ArrayList<>(capacity);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            Integer val = i < capacity - 1000 ? i : RANDOM.nextInt(capacity);
+            currentArr.add(val);
+            expectedArr.add(val);
+        }
+
+        currentArr.stableSort();
+        expectedArr.sort(Comparator.comparingInt(x -> x));
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+        //повторная сортировка с тем же буфером
+        for (int i = 0; i < 1000; i++) {
+            Integer val = RANDOM.nextInt(capacity);
+            currentArr.replace(RANDOM.nextInt(capacity), val);
+        }
+        expectedArr = new ArrayList<>(Arrays.asList(currentArr.toArray(new Integer[0])));
+        currentArr.stableSort(Comparator.reverseOrder());
+        expectedArr.sort(Comparator.reverseOrder());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void stableSortWrongParamsTest() {
+        class TestObj {}
+        SpecialArrayList<TestObj> notComparableArr = new SpecialArrayList<>(10);
+        SpecialArrayList<Integer> nullElementArr = new SpecialArrayList<>(10);
+
+        for (int i = 0; i < 10; i++) {
+            notComparableArr.add(new TestObj());
+            nullElementArr.add(i);
+        }
+        nullElementArr.add(null);
+
+        Assertions.assertThrows(NotComparableException.class, notComparableArr::stableSort);
+        Assertions.assertThrows(SortNullElementException.class, nullElementArr::stableSort);
+        Assertions.assertThrows(NullParamException.class, () -> nullElementArr.stableSort(null));
+    }
+
+    //parallel sort
+    @Test
+    void parallelSortComparableTest() {
+        int capacity = 200_000;
+        ArrayList<Integer> expectedArr = new ArrayList<>(capacity);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            Integer val = RANDOM.nextInt(10_000) - 5000;
+            currentArr.add(val);
+            expectedArr.add(val);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            currentArr.parallelSort(pool, 1000);
+        } finally {
+            pool.shutdown();
+        }
+        expectedArr.sort(Comparator.comparingInt(x -> x));
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void parallelSortComparatorTest() {
+        int capacity = 100_003;
+        ArrayList<Integer> expectedArr = new ArrayList<>(capacity);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            Integer val = RANDOM.nextInt(1000);
+            currentArr.add(val);
+            expectedArr.add(val);
+        }
+
+        currentArr.parallelSort(Comparator.reverseOrder(), ForkJoinPool.commonPool(), 1);
+        expectedArr.sort(Comparator.reverseOrder());
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void parallelSortMatchesSortTest() {
+        int capacity = 50_000;
+        SpecialArrayList<String> sortedArr = new SpecialArrayList<>(capacity);
+        SpecialArrayList<String> currentArr = new SpecialArrayList<>(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            String val = "WOW " + RANDOM.nextInt(capacity);
+            sortedArr.add(val);
+            currentArr.add(val);
+        }
+
+        sortedArr.sort();
+        currentArr.parallelSort();
+
+        assertEquals(sortedArr, currentArr);
+    }
+
+    @Test
+    void parallelSortWrongParamsTest() {
+        class TestObj {}
+        SpecialArrayList<TestObj> notComparableArr = new SpecialArrayList<>(10);
+        SpecialArrayList<Integer> nullElementArr = new SpecialArrayList<>(10);
+
+        for (int i = 0; i < 10; i++) {
+            notComparableArr.add(new TestObj());
+            nullElementArr.add(i);
+        }
+        nullElementArr.add(null);
+
+        Assertions.assertThrows(NotComparableException.class, notComparableArr::parallelSort);
+        Assertions.assertThrows(SortNullElementException.class, nullElementArr::parallelSort);
+        Assertions.assertThrows(SortNullElementException.class, () -> nullElementArr.parallelSort(Comparator.comparingInt(x -> x)));
+        Assertions.assertThrows(NullParamException.class, () -> nullElementArr.parallelSort(null));
+        Assertions.assertThrows(NullParamException.class, () -> nullElementArr.parallelSort(null, 10));
+        Assertions.assertThrows(GranularityException.class, () -> nullElementArr.parallelSort(ForkJoinPool.commonPool(), 0));
+    }
+
     //replace
     @Test
     void replaceTest() {
@@ -500,7 +737,10 @@ class SpecialArrayListTest {
     void addAllNullTest() {
         SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(100);
 
-        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll(null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll((Integer[]) null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll((Collection<Integer>) null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll(0, (Integer[]) null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll(0, (Collection<Integer>) null));
     }
 
     @Test
@@ -536,6 +776,162 @@ class SpecialArrayListTest {
 
     }
 
+    @Test
+    void addAllFullCapacityTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(10);
+        currentArr.addAll(new Integer[]{1, 2, 3, 4, 5});
+        currentArr.addAll(new Integer[]{6, 7, 8, 9, 10});
+
+        assertEquals(10, currentArr.size());
+        assertEquals(10, currentArr.get(9));
+    }
+
+    @Test
+    void addAllBatchesTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>();
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+        int reallocations = 0;
+
+        for (int batch = 0; batch < 1000; batch++) {
+            Integer[] values = new Integer[1000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = RANDOM.nextInt();
+            }
+            int capacity = currentArr.capacity();
+            currentArr.addAll(values);
+            expectedArr.addAll(Arrays.asList(values));
+            if (currentArr.capacity() != capacity)
+                reallocations++;
+        }
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray(new Integer[0]));
+        assertTrue(reallocations < 40);
+    }
+
+    @Test
+    void addAllCollectionTest() {
+        SpecialArrayList<String> currentArr = new SpecialArrayList<>(new String[]{"a", "b"});
+        List<String> input = List.of("c", "d", "e");
+
+        currentArr.addAll(input);
+        currentArr.addAll(new ArrayList<String>());
+
+        assertArrayEquals(new String[]{"a", "b", "c", "d", "e"}, currentArr.toArray(new String[0]));
+    }
+
+    @Test
+    void addAllByIndexTest() {
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            Integer[] values = new Integer[RANDOM.nextInt(20)];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = RANDOM.nextInt(1000);
+            }
+            int index = RANDOM.nextInt(expectedArr.size() + 1);
+
+            expectedArr.addAll(index, Arrays.asList(values));
+            if (i % 2 == 0)
+                currentArr.addAll(index, values);
+            else
+                currentArr.addAll(index, Arrays.asList(values));
+        }
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray(new Integer[0]));
+    }
+
+    @Test
+    void addAllByIndexOutOfBoundTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new Integer[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.addAll(-1, new Integer[]{1}));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.addAll(4, List.of(1)));
+    }
+
+    //bulk removal
+    @Test
+    void removeRangeTest() {
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expectedArr.add(i);
+        }
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(expectedArr);
+
+        currentArr.removeRange(100, 900);
+        expectedArr.subList(100, 900).clear();
+        currentArr.removeRange(0, 0);
+        currentArr.removeRange(150, 200);
+        expectedArr.subList(150, 200).clear();
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray(new Integer[0]));
+    }
+
+    @Test
+    void removeRangeOutOfBoundTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new Integer[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.removeRange(-1, 2));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.removeRange(2, 1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.removeRange(0, 4));
+    }
+
+    @Test
+    void removeIfTest() {
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Integer val = RANDOM.nextInt(1000);
+            expectedArr.add(val);
+            currentArr.add(val);
+        }
+
+        assertTrue(currentArr.removeIf(x -> x % 3 == 0));
+        expectedArr.removeIf(x -> x % 3 == 0);
+        assertFalse(currentArr.removeIf(x -> x % 3 == 0));
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray(new Integer[0]));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.removeIf(null));
+    }
+
+    @Test
+    void removeIfExceptionTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new Integer[]{1, 2, 3, 4, 5, 6});
+
+        Assertions.assertThrows(IllegalStateException.class, () -> currentArr.removeIf(x -> {
+            if (x == 5)
+                throw new IllegalStateException();
+            return x % 2 == 0;
+        }));
+
+        assertArrayEquals(new Integer[]{1, 3, 5, 6}, currentArr.toArray(new Integer[0]));
+    }
+
+    @Test
+    void removeAllRetainAllTest() {
+        ArrayList<String> expectedArr = new ArrayList<>();
+        SpecialArrayList<String> currentArr = new SpecialArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String val = String.valueOf(RANDOM.nextInt(100));
+            expectedArr.add(val);
+            currentArr.add(val);
+        }
+        Set<String> removed = new HashSet<>(List.of("1", "2", "3", "50", "99"));
+        Set<String> retained = new HashSet<>(List.of("4", "5", "6", "7", "8", "9", "10"));
+
+        assertEquals(expectedArr.removeAll(removed), currentArr.removeAll(removed));
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray(new String[0]));
+
+        assertEquals(expectedArr.retainAll(retained), currentArr.retainAll(retained));
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray(new String[0]));
+
+        assertFalse(currentArr.retainAll(retained));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.removeAll(null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.retainAll(null));
+    }
+
     //toArray
     @Test
     void toArrayTest() {
@@ -552,6 +948,105 @@ class SpecialArrayListTest {
         assertArrayEquals(expectedArr, currentArr.toArray());
     }
 
+    @Test
+    void toArraySizeTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(100);
+        currentArr.add(1);
+        currentArr.add(2);
+
+        assertArrayEquals(new Object[]{1, 2}, currentArr.toArray());
+    }
+
+    //snapshot
+    @Test
+    void snapshotTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new Integer[]{5, 3, 4, 1, 2});
+        SpecialArrayListSnapshot<Integer> snapshot = currentArr.snapshot();
+
+        currentArr.sort();
+        currentArr.replace(0, 42);
+        currentArr.remove(1);
+        currentArr.add(0, 7);
+
+        assertArrayEquals(new Object[]{5, 3, 4, 1, 2}, snapshot.toArray());
+        assertArrayEquals(new Object[]{7, 42, 3, 4, 5}, currentArr.toArray());
+        assertEquals(5, snapshot.size());
+        assertEquals(4, snapshot.get(2));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> snapshot.get(5));
+    }
+
+    @Test
+    void snapshotEveryMutationTest() {
+        List<Consumer<SpecialArrayList<Integer>>> mutations = List.of(
+                list -> list.add(0, 1),
+                list -> list.remove(0),
+                list -> list.replace(2, -1),
+                list -> list.removeRange(1, 3),
+                list -> list.removeIf(x -> x == 2),
+                list -> list.retainAll(List.of(1)),
+                list -> list.addAll(0, new Integer[]{9, 9}),
+                list -> list.sort(Comparator.reverseOrder()),
+                list -> list.stableSort(Comparator.reverseOrder()),
+                list -> list.parallelSort(Comparator.reverseOrder()),
+                SpecialArrayList::clean,
+                SpecialArrayList::trim
+        );
+
+        for (Consumer<SpecialArrayList<Integer>> mutation : mutations) {
+            SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new Integer[]{1, 2, 3, 4, 5});
+            SpecialArrayListSnapshot<Integer> snapshot = currentArr.snapshot();
+
+            mutation.accept(currentArr);
+
+            assertArrayEquals(new Object[]{1, 2, 3, 4, 5}, snapshot.toArray());
+        }
+    }
+
+    @Test
+    void snapshotAppendWithoutCopyTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(100);
+        for (int i = 0; i < 50; i++) {
+            currentArr.add(i);
+        }
+        SpecialArrayListSnapshot<Integer> snapshot = currentArr.snapshot();
+        SpecialArrayListSnapshot<Integer> sameSnapshot = currentArr.snapshot();
+
+        for (int i = 50; i < 1000; i++) {
+            currentArr.add(i);
+        }
+
+        assertEquals(50, snapshot.size());
+        assertEquals(snapshot, sameSnapshot);
+        assertEquals(snapshot.hashCode(), sameSnapshot.hashCode());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, snapshot.get(i));
+        }
+        assertEquals(1000, currentArr.size());
+    }
+
+    @Test
+    void snapshotReadFromOtherThreadTest() throws Exception {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            currentArr.add(i);
+        }
+        SpecialArrayListSnapshot<Integer> snapshot = currentArr.snapshot();
+
+        CompletableFuture<Long> sum = CompletableFuture.supplyAsync(() -> {
+            long result = 0;
+            for (int i = 0; i < snapshot.size(); i++) {
+                result += snapshot.get(i);
+            }
+            return result;
+        });
+        for (int i = 0; i < 100_000; i++) {
+            currentArr.replace(i, -1);
+            currentArr.add(-1);
+        }
+
+        assertEquals(99_999L * 100_000 / 2, sum.get());
+    }
+
     //toArray with external Array
     @Test
     void toArrayParamTest() {
@@ -582,6 +1077,72 @@ class SpecialArrayListTest {
         Assertions.assertThrows(NullParamException.class, () -> currentArr.toArray(null));
     }
 
+    //growth policy
+    @Test
+    void createWithGrowthPolicyTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(4, new FixedIncrementGrowthPolicy(3));
+        for (int i = 0; i < 5; i++) {
+            currentArr.add(i);
+        }
+
+        assertEquals(7, currentArr.capacity());
+        assertEquals(5, currentArr.size());
+        Assertions.assertThrows(NullParamException.class, () -> new SpecialArrayList<Integer>((GrowthPolicy) null));
+        Assertions.assertThrows(CapacityException.class, () -> new SpecialArrayList<Integer>(0, new GeometricGrowthPolicy(2.0)));
+    }
+
+    @Test
+    void ensureCapacityTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(10, 2.0);
+        currentArr.add(1);
+
+        currentArr.ensureCapacity(5);
+        assertEquals(10, currentArr.capacity());
+
+        currentArr.ensureCapacity(15);
+        assertEquals(21, currentArr.capacity());
+
+        currentArr.ensureCapacity(100);
+        assertEquals(100, currentArr.capacity());
+        assertEquals(1, currentArr.size());
+        assertEquals(1, currentArr.get(0));
+    }
+
+    @Test
+    void autoShrinkTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new GeometricGrowthPolicy(2.0).withAutoShrink());
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            currentArr.add(i);
+            expectedArr.add(i);
+        }
+        int peak = currentArr.capacity();
+
+        while (currentArr.size() > 1000) {
+            currentArr.remove(currentArr.size() - 1);
+            expectedArr.remove(expectedArr.size() - 1);
+        }
+
+        assertTrue(currentArr.capacity() <= 4 * currentArr.size());
+        assertTrue(currentArr.capacity() < peak);
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+        currentArr.clean();
+        assertEquals(10, currentArr.capacity());
+    }
+
+    @Test
+    void noAutoShrinkByDefaultTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            currentArr.add(i);
+        }
+        int peak = currentArr.capacity();
+
+        currentArr.clean();
+        assertEquals(peak, currentArr.capacity());
+    }
+
     //is Empty
     @Test
     void isEmptyTest() {
@@ -655,4 +1216,351 @@ class SpecialArrayListTest {
 
         assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
     }
-}
\ No newline at end of file
+
+    //serialization
+    @Test
+    void writeReadTest() {
+        for (int size : new int[]{0, 1, 100, 100_000}) {
+            SpecialArrayList<Integer> expectedArr = new SpecialArrayList<>(SortingTest.randomArr(size, 1000));
+            expectedArr.ensureCapacity(size * 2 + 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            expectedArr.writeTo(Channels.newChannel(out), IntegerCodec.INSTANCE);
+            //записывается только size элементов, без запаса ёмкости
+            assertEquals(16 + size * 4 + 4, out.size());
+
+            SpecialArrayList<Integer> currentArr = SpecialArrayList.readFrom(
+                    Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), IntegerCodec.INSTANCE);
+            assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+            assertEquals(size, currentArr.capacity());
+            currentArr.add(1);
+            assertEquals(size + 1, currentArr.size());
+        }
+    }
+
+    @Test
+    void writeReadWrongParamsTest() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(new Integer[]{1, 2, null});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assertions.assertThrows(NullParamException.class, () -> list.writeTo(null, IntegerCodec.INSTANCE));
+        Assertions.assertThrows(NullParamException.class, () -> list.writeTo(Channels.newChannel(out), null));
+        Assertions.assertThrows(NullParamException.class, () -> list.writeTo(Channels.newChannel(out), IntegerCodec.INSTANCE));
+        assertEquals(0, out.size());
+
+        list.remove(2);
+        list.writeTo(Channels.newChannel(out), IntegerCodec.INSTANCE);
+        byte[] bytes = out.toByteArray();
+
+        Assertions.assertThrows(FileFormatException.class, () -> SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), LongCodec.INSTANCE));
+        Assertions.assertThrows(FileFormatException.class, () -> SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes, 0, bytes.length - 1)), IntegerCodec.INSTANCE));
+
+        bytes[17] ^= 1;
+        Assertions.assertThrows(FileFormatException.class, () -> SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), IntegerCodec.INSTANCE));
+    }
+
+    @Test
+    void readDamagedSizeTest(@TempDir Path dir) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SpecialArrayList<>(SortingTest.randomArr(1000, 100)).writeTo(Channels.newChannel(out), IntegerCodec.INSTANCE);
+        byte[] bytes = out.toByteArray();
+        //размер в заголовке становится больше 2^30: ошибка формата, а не OutOfMemoryError
+        bytes[12] ^= 0x40;
+
+        Assertions.assertThrows(FileFormatException.class, () -> SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), IntegerCodec.INSTANCE));
+
+        Path file = dir.resolve("list.bin");
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file)) {
+            Assertions.assertThrows(FileFormatException.class, () -> SpecialArrayList.readFrom(channel, IntegerCodec.INSTANCE));
+        }
+
+        bytes[12] ^= 0x40;
+        Files.write(file, bytes);
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertEquals(1000, SpecialArrayList.readFrom(channel, IntegerCodec.INSTANCE).size());
+        }
+    }
+
+    //iteration
+    @Test
+    void iteratorTest() {
+        Integer[] values = SortingTest.randomArr(1000, 100);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(values);
+
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : currentArr) {
+            iterated.add(value);
+        }
+        assertEquals(Arrays.asList(values), iterated);
+
+        List<Integer> expectedArr = new ArrayList<>(Arrays.asList(values));
+        expectedArr.removeIf(x -> x % 2 == 0);
+        Iterator<Integer> iterator = currentArr.iterator();
+        Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0)
+                iterator.remove();
+        }
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+        Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void iteratorFailFastTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(SortingTest.randomArr(100, 100));
+
+        Iterator<Integer> iterator = currentArr.iterator();
+        iterator.next();
+        currentArr.add(1);
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        //замена элемента не структурное изменение
+        Iterator<Integer> second = currentArr.iterator();
+        currentArr.replace(0, 5);
+        assertEquals(5, second.next());
+
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> currentArr.forEach(x -> currentArr.remove(0)));
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> currentArr.stream().forEach(x -> currentArr.sort()));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.forEach(null));
+    }
+
+    @Test
+    void spliteratorTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(SortingTest.randomArr(1 << 10, 100));
+        //позднее связывание: размер берётся при первом использовании
+        Spliterator<Integer> spliterator = currentArr.spliterator();
+        currentArr.add(1);
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals((1 << 10) + 1, spliterator.estimateSize());
+        currentArr.remove(currentArr.size() - 1);
+
+        spliterator = currentArr.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(512, prefix.estimateSize());
+        assertEquals(512, spliterator.estimateSize());
+        assertEquals(256, prefix.trySplit().getExactSizeIfKnown());
+
+        List<Integer> traversed = new ArrayList<>();
+        prefix.tryAdvance(traversed::add);
+        prefix.forEachRemaining(traversed::add);
+        assertEquals(256, traversed.size());
+        assertEquals(currentArr.get(256), traversed.get(0));
+        assertFalse(prefix.tryAdvance(traversed::add));
+
+        Spliterator<Integer> single = new SpecialArrayList<>(new Integer[]{1}).spliterator();
+        assertNull(single.trySplit());
+    }
+
+    @Test
+    void streamTest() {
+        Integer[] values = SortingTest.randomArr(100_000, 1000);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(values);
+
+        long expectedSum = Arrays.stream(values).mapToLong(Integer::longValue).sum();
+        assertEquals(expectedSum, currentArr.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expectedSum, currentArr.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(Arrays.asList(values), currentArr.parallelStream().collect(Collectors.toList()));
+        assertEquals(0, new SpecialArrayList<Integer>().stream().count());
+    }
+
+    @Test
+    void indexOfTest() {
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(new Integer[]{5, 3, 5, null, 7});
+
+        assertEquals(0, currentArr.indexOf(5));
+        assertEquals(2, currentArr.lastIndexOf(5));
+        assertEquals(3, currentArr.indexOf(null));
+        assertEquals(-1, currentArr.indexOf(4));
+        assertEquals(-1, currentArr.lastIndexOf("5"));
+        assertTrue(currentArr.contains(7));
+        assertFalse(currentArr.contains(8));
+        assertFalse(new SpecialArrayList<Integer>().contains(null));
+    }
+
+    @Test
+    void hashIndexTest() {
+        List<Integer> expectedArr = new ArrayList<>(Arrays.asList(SortingTest.randomArr(500, 50)));
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(expectedArr.toArray(new Integer[0]));
+        currentArr.setHashIndex(true);
+        assertTrue(currentArr.hasHashIndex());
+
+        //случайные изменения, после каждого поиск сверяется с ArrayList
+        for (int i = 0; i < 2000; i++) {
+            Integer value = RANDOM.nextInt(60);
+            switch (RANDOM.nextInt(6)) {
+                case 0:
+                    currentArr.add(value);
+                    expectedArr.add(value);
+                    break;
+                case 1:
+                    int index = RANDOM.nextInt(expectedArr.size() + 1);
+                    currentArr.add(index, value);
+                    expectedArr.add(index, value);
+                    break;
+                case 2:
+                    int replaced = RANDOM.nextInt(expectedArr.size());
+                    currentArr.replace(replaced, value);
+                    expectedArr.set(replaced, value);
+                    break;
+                case 3:
+                    if (expectedArr.size() > 1) {
+                        currentArr.remove(expectedArr.size() - 1);
+                        expectedArr.remove(expectedArr.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (expectedArr.size() > 1) {
+                        int removed = RANDOM.nextInt(expectedArr.size());
+                        currentArr.remove(removed);
+                        expectedArr.remove(removed);
+                    }
+                    break;
+                default:
+                    Integer key = RANDOM.nextInt(60);
+                    assertEquals(expectedArr.indexOf(key), currentArr.indexOf(key));
+                    assertEquals(expectedArr.lastIndexOf(key), currentArr.lastIndexOf(key));
+                    assertEquals(expectedArr.contains(key), currentArr.contains(key));
+            }
+        }
+
+        currentArr.sort();
+        expectedArr.sort(null);
+        for (int key = 0; key < 60; key++) {
+            assertEquals(expectedArr.indexOf(key), currentArr.indexOf(key));
+            assertEquals(expectedArr.lastIndexOf(key), currentArr.lastIndexOf(key));
+        }
+
+        currentArr.clean();
+        assertFalse(currentArr.contains(expectedArr.get(0)));
+        currentArr.setHashIndex(false);
+        assertFalse(currentArr.hasHashIndex());
+        currentArr.add(1);
+        assertEquals(0, currentArr.indexOf(1));
+    }
+
+    @Test
+    void hashIndexDedupTest() {
+        Integer[] values = SortingTest.randomArr(10_000, 1000);
+        SpecialArrayList<Integer> unique = new SpecialArrayList<>();
+        unique.setHashIndex(true);
+        for (Integer value : values) {
+            if (!unique.contains(value))
+                unique.add(value);
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList(values)).size(), unique.size());
+        assertEquals(new HashSet<>(Arrays.asList(values)), new HashSet<>(Arrays.asList(unique.toArray())));
+    }
+
+    @Test
+    void selectTest() {
+        Integer[] values = SortingTest.randomArr(10_001, 1000);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(values);
+        Arrays.sort(values);
+
+        assertEquals(values[5000], currentArr.select(5000, Comparator.naturalOrder()));
+        assertEquals(values[0], currentArr.select(0, Comparator.naturalOrder()));
+        assertEquals(values[10_000], currentArr.select(0, Comparator.reverseOrder()));
+
+        Object[] sorted = currentArr.toArray();
+        Arrays.sort(sorted);
+        assertArrayEquals(values, sorted);
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.select(10_001, Comparator.naturalOrder()));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.select(0, null));
+        currentArr.replace(7, null);
+        Assertions.assertThrows(SortNullElementException.class, () -> currentArr.select(0, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void topKTest() {
+        Integer[] values = SortingTest.randomArr(10_000, 100_000);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(values);
+        Integer[] expectedArr = values.clone();
+        Arrays.sort(expectedArr, Comparator.reverseOrder());
+
+        SpecialArrayList<Integer> top = currentArr.topK(100, Comparator.reverseOrder());
+        assertArrayEquals(Arrays.copyOf(expectedArr, 100), top.toArray());
+        assertArrayEquals(values, currentArr.toArray());
+        top.add(-1);
+        assertEquals(101, top.size());
+
+        assertEquals(3, new SpecialArrayList<>(new Integer[]{3, 1, 2}).topK(10, Comparator.naturalOrder()).size());
+        assertTrue(currentArr.topK(0, Comparator.naturalOrder()).isEmpty());
+        Assertions.assertThrows(CapacityException.class, () -> currentArr.topK(-1, Comparator.naturalOrder()));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.topK(1, null));
+    }
+
+    @Test
+    void partialSortTest() {
+        Integer[] values = SortingTest.randomArr(10_000, 1000);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(values);
+        Arrays.sort(values);
+
+        currentArr.partialSort(100);
+        assertArrayEquals(Arrays.copyOf(values, 100), Arrays.copyOf(currentArr.toArray(), 100));
+
+        currentArr.partialSort(10_000, Comparator.naturalOrder());
+        assertArrayEquals(values, currentArr.toArray());
+
+        IndexOutOfRangeException e = Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.partialSort(10_001));
+        assertTrue(e.getMessage().contains("from 0 to 10000 (include)"));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.partialSort(-1));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.partialSort(1, null));
+        Assertions.assertThrows(NotComparableException.class, () -> new SpecialArrayList<>(new Object[]{new Object()}).partialSort(1));
+    }
+
+    @Test
+    void sortByKeyTest() {
+        Integer[] values = SortingTest.randomArr(10_000, 1000);
+        SpecialArrayList<Integer> currentArr = new SpecialArrayList<>(values);
+        Integer[] expectedArr = values.clone();
+
+        currentArr.sortByIntKey(x -> -x);
+        Arrays.sort(expectedArr, Comparator.reverseOrder());
+        assertArrayEquals(expectedArr, currentArr.toArray());
+
+        currentArr.sortByLongKey(Integer::longValue);
+        Arrays.sort(expectedArr);
+        assertArrayEquals(expectedArr, currentArr.toArray());
+
+        SpecialArrayList<String> words = new SpecialArrayList<>(new String[]{"ccc", "a", "bb", "d", "ee"});
+        words.sortByIntKey(String::length);
+        assertArrayEquals(new Object[]{"a", "d", "bb", "ee", "ccc"}, words.toArray());
+
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.sortByIntKey(null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.sortByLongKey(null));
+        currentArr.replace(3, null);
+        Assertions.assertThrows(SortNullElementException.class, () -> currentArr.sortByIntKey(Integer::intValue));
+    }
+
+    @Test
+    void sortByCachedKeyTest() {
+        String[] values = new String[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "order-" + RANDOM.nextInt(100_000);
+        }
+        SpecialArrayList<String> currentArr = new SpecialArrayList<>(values);
+        String[] expectedArr = values.clone();
+
+        currentArr.sortByKey(x -> Integer.parseInt(x.substring(6)));
+        Arrays.sort(expectedArr, Comparator.comparingInt(x -> Integer.parseInt(x.substring(6))));
+        assertArrayEquals(expectedArr, currentArr.toArray());
+
+        currentArr.sortByKey(String::length, Comparator.reverseOrder());
+        for (int i = 1; i < currentArr.size(); i++) {
+            assertTrue(currentArr.get(i - 1).length() >= currentArr.get(i).length());
+        }
+
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.sortByKey(null));
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.sortByKey(String::length, null));
+        Object[] before = currentArr.toArray();
+        Assertions.assertThrows(SortNullElementException.class, () -> currentArr.sortByKey(x -> x.length() == 11 ? null : x));
+        assertArrayEquals(before, currentArr.toArray());
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.DoubleCodec;
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialDoubleArrayListTest {
+    static final Random RANDOM = new Random();
+
+    @Test
+    void addAndGetTest() {
+        int capacity = 100_000;
+        SpecialDoubleArrayList currentArr = new SpecialDoubleArrayList();
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(i / 2.0);
+        }
+
+        assertEquals(capacity, currentArr.size());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i / 2.0, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void replaceAndRemoveTest() {
+        SpecialDoubleArrayList currentArr = new SpecialDoubleArrayList(new double[]{1.5, 2.5, 3.5});
+
+        currentArr.replace(0, 0.5);
+        currentArr.remove(1);
+
+        assertArrayEquals(new double[]{0.5, 3.5}, currentArr.toArray());
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.replace(2, 1.0));
+    }
+
+    @Test
+    void sortTest() {
+        int capacity = 100_000;
+        double[] expectedArr = new double[capacity];
+        SpecialDoubleArrayList currentArr = new SpecialDoubleArrayList(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            expectedArr[i] = RANDOM.nextDouble() - 0.5;
+            currentArr.add(expectedArr[i]);
+        }
+        currentArr.add(Double.NaN);
+        currentArr.add(-0.0);
+
+        currentArr.sort();
+        expectedArr = Arrays.copyOf(expectedArr, capacity + 2);
+        expectedArr[capacity] = Double.NaN;
+        expectedArr[capacity + 1] = -0.0;
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr.toArray());
+        assertTrue(Double.isNaN(currentArr.get(capacity + 1)));
+    }
+
+    @Test
+    void trimTest() {
+        SpecialDoubleArrayList currentArr = new SpecialDoubleArrayList(100);
+        currentArr.addAll(new double[]{1.0, 2.0});
+
+        currentArr.trim();
+
+        assertArrayEquals(new double[]{1.0, 2.0}, currentArr.toArray());
+        assertEquals(new SpecialDoubleArrayList(new double[]{1.0, 2.0}), currentArr);
+    }
+
+    @Test
+    void writeReadTest() {
+        SpecialDoubleArrayList expectedArr = new SpecialDoubleArrayList();
+        for (int i = 0; i < 50_000; i++) {
+            expectedArr.add(RANDOM.nextGaussian());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expectedArr.writeTo(Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+
+        assertEquals(expectedArr, SpecialDoubleArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        //формат совместим со списком объектов и кодеком
+        SpecialArrayList<Double> boxedArr = SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), DoubleCodec.INSTANCE);
+        assertEquals(expectedArr.size(), boxedArr.size());
+        assertEquals(expectedArr.get(123), boxedArr.get(123));
+
+        Assertions.assertThrows(NullParamException.class, () -> expectedArr.writeTo(null));
+        Assertions.assertThrows(NullParamException.class, () -> SpecialDoubleArrayList.readFrom(null));
+        bytes[bytes.length - 1] ^= 1;
+        Assertions.assertThrows(FileFormatException.class,
+                () -> SpecialDoubleArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+}
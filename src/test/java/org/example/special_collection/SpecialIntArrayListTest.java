@@ -0,0 +1,179 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.IntegerCodec;
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialIntArrayListTest {
+    static final Random RANDOM = new Random();
+
+    @Test
+    void creteEmptyListTest() {
+        assertTrue(new SpecialIntArrayList().isEmpty());
+        assertTrue(new SpecialIntArrayList(42).isEmpty());
+        assertTrue(new SpecialIntArrayList(42, 2.0).isEmpty());
+    }
+
+    @Test
+    void createListWrongParamsTest() {
+        Assertions.assertThrows(CapacityException.class, () -> new SpecialIntArrayList(0));
+        Assertions.assertThrows(CapacityException.class, () -> new SpecialIntArrayList(-1, 2.0));
+        Assertions.assertThrows(ExpansionCoefficientException.class, () -> new SpecialIntArrayList(5, 1.0));
+        Assertions.assertThrows(NullParamException.class, () -> new SpecialIntArrayList(null));
+    }
+
+    @Test
+    void addAndGetTest() {
+        int capacity = 100_000;
+        SpecialIntArrayList currentArr = new SpecialIntArrayList();
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(i);
+        }
+
+        assertEquals(capacity, currentArr.size());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void addByIndexAndRemoveTest() {
+        int capacity = 1000;
+        ArrayList<Integer> expectedArr = new ArrayList<>(capacity);
+        SpecialIntArrayList currentArr = new SpecialIntArrayList(10);
+
+        for (int i = 0; i < capacity; i++) {
+            int val = RANDOM.nextInt(1000);
+            int index = RANDOM.nextInt(currentArr.size() + 1);
+            currentArr.add(index, val);
+            expectedArr.add(index, val);
+        }
+        for (int i = 0; i < capacity / 2; i++) {
+            int index = RANDOM.nextInt(currentArr.size());
+            currentArr.remove(index);
+            expectedArr.remove(index);
+        }
+
+        assertEquals(expectedArr.size(), currentArr.size());
+        for (int i = 0; i < expectedArr.size(); i++) {
+            assertEquals(expectedArr.get(i), currentArr.get(i));
+        }
+    }
+
+    @Test
+    void outOfBoundTest() {
+        SpecialIntArrayList currentArr = new SpecialIntArrayList(new int[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(-1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.add(4, 42));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.remove(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.replace(3, 42));
+    }
+
+    @Test
+    void replaceTest() {
+        SpecialIntArrayList currentArr = new SpecialIntArrayList(new int[]{1, 2, 3});
+
+        currentArr.replace(1, 42);
+
+        assertArrayEquals(new int[]{1, 42, 3}, currentArr.toArray());
+    }
+
+    @Test
+    void addAllTest() {
+        int[] expectedArr = new int[100];
+        for (int i = 0; i < expectedArr.length; i++) {
+            expectedArr[i] = RANDOM.nextInt(1000) - 500;
+        }
+        SpecialIntArrayList currentArr = new SpecialIntArrayList(50);
+
+        currentArr.addAll(Arrays.copyOfRange(expectedArr, 0, 50));
+        currentArr.addAll(Arrays.copyOfRange(expectedArr, 50, 100));
+
+        assertArrayEquals(expectedArr, currentArr.toArray());
+        Assertions.assertThrows(NullParamException.class, () -> currentArr.addAll(null));
+    }
+
+    @Test
+    void sortTest() {
+        int capacity = 100_000;
+        int[] expectedArr = new int[capacity];
+        SpecialIntArrayList currentArr = new SpecialIntArrayList(capacity * 2);
+
+        for (int i = 0; i < capacity; i++) {
+            expectedArr[i] = RANDOM.nextInt();
+            currentArr.add(expectedArr[i]);
+        }
+
+        currentArr.sort();
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr.toArray());
+    }
+
+    @Test
+    void trimAndCleanTest() {
+        SpecialIntArrayList currentArr = new SpecialIntArrayList(100);
+        currentArr.addAll(new int[]{1, 2, 3});
+
+        currentArr.trim();
+        currentArr.add(4);
+        assertArrayEquals(new int[]{1, 2, 3, 4}, currentArr.toArray());
+
+        currentArr.clean();
+        assertTrue(currentArr.isEmpty());
+        assertArrayEquals(new int[0], currentArr.toArray());
+    }
+
+    @Test
+    void equalsTest() {
+        SpecialIntArrayList arr1 = new SpecialIntArrayList(10);
+        SpecialIntArrayList arr2 = new SpecialIntArrayList(1000);
+
+        for (int i = 0; i < 100; i++) {
+            int val = RANDOM.nextInt(100000) - 50000;
+            arr1.add(val);
+            arr2.add(val);
+        }
+
+        assertEquals(arr1, arr2);
+        assertEquals(arr1.hashCode(), arr2.hashCode());
+    }
+
+    @Test
+    void writeReadTest() {
+        SpecialIntArrayList expectedArr = new SpecialIntArrayList();
+        for (int i = 0; i < 50_000; i++) {
+            expectedArr.add(RANDOM.nextInt());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expectedArr.writeTo(Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+
+        assertEquals(expectedArr, SpecialIntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        //формат совместим со списком объектов и кодеком
+        SpecialArrayList<Integer> boxedArr = SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), IntegerCodec.INSTANCE);
+        assertEquals(expectedArr.size(), boxedArr.size());
+        assertEquals(expectedArr.get(123), boxedArr.get(123));
+
+        Assertions.assertThrows(NullParamException.class, () -> expectedArr.writeTo(null));
+        Assertions.assertThrows(NullParamException.class, () -> SpecialIntArrayList.readFrom(null));
+        bytes[bytes.length - 1] ^= 1;
+        Assertions.assertThrows(FileFormatException.class,
+                () -> SpecialIntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.special_collection;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialListMetricsTest {
+    static final Random RANDOM = new Random();
+
+    @TempDir
+    Path dir;
+
+
+    @Test
+    void disabledByDefaultTest() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>();
+        assertNull(list.metrics());
+
+        SpecialListMetrics metrics = new SpecialListMetrics();
+        list.setMetrics(metrics);
+        assertSame(metrics, list.metrics());
+        list.setMetrics(null);
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+        }
+        assertEquals(0, metrics.resizeCount());
+        assertEquals(0, metrics.copiedElements());
+
+        Assertions.assertThrows(CapacityException.class, () -> new SpecialListMetrics(-1));
+    }
+
+    @Test
+    void resizeTest() {
+        SpecialListMetrics metrics = new SpecialListMetrics();
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(10);
+        list.setMetrics(metrics);
+        assertEquals(10, metrics.peakCapacity());
+
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        //10 -> 16 -> 25 -> ... -> 679 -> 1019 при коэффициенте 1.5
+        assertEquals(11, metrics.resizeCount());
+        assertEquals(list.capacity(), metrics.peakCapacity());
+
+        list.trim();
+        assertEquals(12, metrics.resizeCount());
+        assertEquals(1000, list.capacity());
+
+        list.trim();
+        assertEquals(12, metrics.resizeCount());
+    }
+
+    @Test
+    void copyTest() {
+        SpecialListMetrics metrics = new SpecialListMetrics();
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(SortingTest.randomArr(100, 10));
+        list.setMetrics(metrics);
+
+        list.add(10, 1);
+        assertEquals(90, metrics.copiedElements());
+        list.remove(0);
+        assertEquals(90 + 100, metrics.copiedElements());
+        list.add(100, 1);
+        list.removeRange(50, 60);
+        assertEquals(90 + 100 + 41, metrics.copiedElements());
+        list.addAll(0, new Integer[]{1, 2, 3});
+        assertEquals(90 + 100 + 41 + 91, metrics.copiedElements());
+
+        metrics.reset();
+        assertEquals(0, metrics.copiedElements());
+    }
+
+    @Test
+    void sortTest() {
+        SpecialListMetrics metrics = new SpecialListMetrics();
+        Integer[] values = SortingTest.randomArr(100_000, 1000);
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        list.setMetrics(metrics);
+
+        AtomicLong comparisons = new AtomicLong();
+        list.sort(Comparator.comparing(x -> {
+            comparisons.incrementAndGet();
+            return x;
+        }));
+        //ключ извлекается дважды на каждое сравнение
+        assertEquals(comparisons.get() / 2, metrics.comparisons());
+        assertEquals(1, metrics.sortCount());
+        assertTrue(metrics.swaps() > 0);
+        assertTrue(metrics.swaps() < 100_000L * 17 * 2);
+
+        Arrays.sort(values);
+        assertArrayEquals(values, list.toArray());
+
+        list.sort();
+        assertEquals(2, metrics.sortCount());
+    }
+
+    @Test
+    void jfrEventsTest() throws IOException {
+        Path file = dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.special_collection.Resize");
+            recording.enable("org.example.special_collection.Sort");
+            recording.start();
+
+            SpecialArrayList<Integer> list = new SpecialArrayList<>(10);
+            list.setMetrics(new SpecialListMetrics(1000));
+            for (int i = 0; i < 2000; i++) {
+                list.add(RANDOM.nextInt());
+            }
+            list.sort();
+            SpecialArrayList<Integer> small = new SpecialArrayList<>(SortingTest.randomArr(10, 10));
+            small.setMetrics(new SpecialListMetrics(1000));
+            small.sort();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        long resizes = events.stream().filter(e -> e.getEventType().getName().endsWith(".Resize")).count();
+        List<RecordedEvent> sorts = events.stream().filter(e -> e.getEventType().getName().endsWith(".Sort")).collect(Collectors.toList());
+
+        //только увеличения до ёмкости от 1000: 1019, 1529, 2294
+        assertEquals(3, resizes);
+        assertEquals(1, sorts.size());
+        assertEquals(2000, sorts.get(0).getInt("size"));
+        assertTrue(sorts.get(0).getLong("comparisons") > 0);
+    }
+}
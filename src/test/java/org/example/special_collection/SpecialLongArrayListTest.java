@@ -0,0 +1,97 @@
+package org.example.special_collection;
+
+import org.example.special_collection.codec.LongCodec;
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialLongArrayListTest {
+    static final Random RANDOM = new Random();
+
+    @Test
+    void addAndGetTest() {
+        int capacity = 100_000;
+        SpecialLongArrayList currentArr = new SpecialLongArrayList(10, 2.0);
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(Long.MAX_VALUE - i);
+        }
+
+        assertEquals(capacity, currentArr.size());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(Long.MAX_VALUE - i, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void addByIndexAndRemoveTest() {
+        SpecialLongArrayList currentArr = new SpecialLongArrayList(new long[]{1, 2, 3});
+
+        currentArr.add(0, 0);
+        currentArr.add(4, 4);
+        currentArr.remove(2);
+
+        assertArrayEquals(new long[]{0, 1, 3, 4}, currentArr.toArray());
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(4));
+    }
+
+    @Test
+    void sortTest() {
+        int capacity = 100_000;
+        long[] expectedArr = new long[capacity];
+        SpecialLongArrayList currentArr = new SpecialLongArrayList();
+
+        for (int i = 0; i < capacity; i++) {
+            expectedArr[i] = RANDOM.nextLong();
+        }
+        currentArr.addAll(expectedArr);
+
+        currentArr.sort();
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr.toArray());
+    }
+
+    @Test
+    void equalsTest() {
+        SpecialLongArrayList arr1 = new SpecialLongArrayList(new long[]{1, 2, 3});
+        SpecialLongArrayList arr2 = new SpecialLongArrayList(100);
+        arr2.addAll(new long[]{1, 2, 3});
+
+        assertEquals(arr1, arr2);
+        assertEquals(arr1.hashCode(), arr2.hashCode());
+    }
+
+    @Test
+    void writeReadTest() {
+        SpecialLongArrayList expectedArr = new SpecialLongArrayList();
+        for (int i = 0; i < 50_000; i++) {
+            expectedArr.add(RANDOM.nextLong());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expectedArr.writeTo(Channels.newChannel(out));
+        byte[] bytes = out.toByteArray();
+
+        assertEquals(expectedArr, SpecialLongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        //формат совместим со списком объектов и кодеком
+        SpecialArrayList<Long> boxedArr = SpecialArrayList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), LongCodec.INSTANCE);
+        assertEquals(expectedArr.size(), boxedArr.size());
+        assertEquals(expectedArr.get(123), boxedArr.get(123));
+
+        Assertions.assertThrows(NullParamException.class, () -> expectedArr.writeTo(null));
+        Assertions.assertThrows(NullParamException.class, () -> SpecialLongArrayList.readFrom(null));
+        bytes[bytes.length - 1] ^= 1;
+        Assertions.assertThrows(FileFormatException.class,
+                () -> SpecialLongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialSubListTest {
+    static final Random RANDOM = new Random();
+
+
+    @Test
+    void getReplaceTest() {
+        Integer[] values = SortingTest.randomArr(1000, 100);
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+        SpecialSubList<Integer> view = list.subList(100, 200);
+
+        assertEquals(100, view.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(values[100 + i], view.get(i));
+        }
+        assertArrayEquals(Arrays.copyOfRange(values, 100, 200), view.toArray());
+
+        //запись через представление видна в списке и наоборот
+        view.replace(5, -1);
+        assertEquals(-1, list.get(105));
+        list.replace(106, -2);
+        assertEquals(-2, view.get(6));
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> view.get(100));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> view.replace(-1, 0));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> list.subList(-1, 5));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> list.subList(5, 4));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> list.subList(0, 1001));
+        assertTrue(list.subList(1000, 1000).isEmpty());
+    }
+
+    @Test
+    void sortTest() {
+        Integer[] values = SortingTest.randomArr(1000, 100);
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+
+        list.subList(200, 700).sort();
+        Arrays.sort(values, 200, 700);
+        assertArrayEquals(values, list.toArray());
+
+        list.subList(0, 100).sort(Comparator.reverseOrder());
+        Arrays.sort(values, 0, 100, Comparator.reverseOrder());
+        assertArrayEquals(values, list.toArray());
+
+        Assertions.assertThrows(NullParamException.class, () -> list.subList(0, 10).sort(null));
+        list.replace(5, null);
+        Assertions.assertThrows(SortNullElementException.class, () -> list.subList(0, 10).sort());
+        list.subList(10, 20).sort();
+    }
+
+    @Test
+    void cleanTest() {
+        List<Integer> expectedArr = new ArrayList<>(Arrays.asList(SortingTest.randomArr(1000, 100)));
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(expectedArr.toArray(new Integer[0]));
+
+        SpecialSubList<Integer> outer = list.subList(100, 500);
+        SpecialSubList<Integer> inner = outer.subList(50, 150);
+        inner.clean();
+        expectedArr.subList(150, 250).clear();
+
+        assertTrue(inner.isEmpty());
+        assertEquals(300, outer.size());
+        assertArrayEquals(expectedArr.toArray(), list.toArray());
+        assertArrayEquals(expectedArr.subList(100, 400).toArray(), outer.toArray());
+    }
+
+    @Test
+    void concurrentModificationTest() {
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(SortingTest.randomArr(100, 100));
+        SpecialSubList<Integer> view = list.subList(10, 20);
+        SpecialSubList<Integer> other = list.subList(30, 40);
+
+        view.sort();
+        Assertions.assertThrows(ConcurrentModificationException.class, other::size);
+
+        SpecialSubList<Integer> fresh = list.subList(30, 40);
+        list.replace(35, 7);
+        assertEquals(7, fresh.get(5));
+        list.add(1);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> fresh.get(0));
+        Assertions.assertThrows(ConcurrentModificationException.class, fresh::clean);
+        Assertions.assertThrows(ConcurrentModificationException.class, fresh::toArray);
+    }
+
+    @Test
+    void pagingTest() {
+        Integer[] values = SortingTest.randomArr(10_000, 1000);
+        SpecialArrayList<Integer> list = new SpecialArrayList<>(values);
+
+        long sum = 0;
+        for (int from = 0; from < list.size(); from += 128) {
+            SpecialSubList<Integer> page = list.subList(from, Math.min(from + 128, list.size()));
+            for (int i = 0; i < page.size(); i++) {
+                sum += page.get(i);
+            }
+        }
+        assertEquals(Arrays.stream(values).mapToLong(Integer::longValue).sum(), sum);
+    }
+}
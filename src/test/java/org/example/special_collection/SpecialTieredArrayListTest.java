@@ -0,0 +1,171 @@
+package org.example.special_collection;
+
+import org.example.special_collection.exception.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecialTieredArrayListTest {
+    static final Random RANDOM = new Random();
+
+    @Test
+    void createListTest() {
+        assertTrue(new SpecialTieredArrayList<Integer>().isEmpty());
+        assertTrue(new SpecialTieredArrayList<Integer>(100).isEmpty());
+        Assertions.assertThrows(CapacityException.class, () -> new SpecialTieredArrayList<Integer>(0));
+        Assertions.assertThrows(NullParamException.class, () -> new SpecialTieredArrayList<>((Integer[]) null));
+
+        SpecialTieredArrayList<String> currentArr = new SpecialTieredArrayList<>(Arrays.asList("a", "b", "c"));
+        assertArrayEquals(new String[]{"a", "b", "c"}, currentArr.toArray(new String[0]));
+    }
+
+    @Test
+    void addAndGetTest() {
+        int capacity = 100_000;
+        SpecialTieredArrayList<Integer> currentArr = new SpecialTieredArrayList<>(64);
+
+        for (int i = 0; i < capacity; i++) {
+            currentArr.add(i);
+        }
+
+        assertEquals(capacity, currentArr.size());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, currentArr.get(i));
+        }
+    }
+
+    @Test
+    void randomOperationsTest() {
+        for (int blockSize : new int[]{1, 4, 16}) {
+            SpecialTieredArrayList<Integer> currentArr = new SpecialTieredArrayList<>(blockSize);
+            ArrayList<Integer> expectedArr = new ArrayList<>();
+
+            for (int i = 0; i < 5000; i++) {
+                int operation = RANDOM.nextInt(5);
+                if (operation < 2 || expectedArr.isEmpty()) {
+                    int index = RANDOM.nextInt(expectedArr.size() + 1);
+                    currentArr.add(index, i);
+                    expectedArr.add(index, i);
+                } else if (operation == 2) {
+                    int index = RANDOM.nextInt(expectedArr.size());
+                    currentArr.remove(index);
+                    expectedArr.remove(index);
+                } else if (operation == 3) {
+                    int index = RANDOM.nextInt(expectedArr.size());
+                    currentArr.replace(index, -i);
+                    expectedArr.set(index, -i);
+                } else {
+                    currentArr.add(i);
+                    expectedArr.add(i);
+                }
+            }
+
+            assertEquals(expectedArr.size(), currentArr.size());
+            assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+            for (int i = 0; i < expectedArr.size(); i++) {
+                assertEquals(expectedArr.get(i), currentArr.get(i));
+            }
+        }
+    }
+
+    @Test
+    void removeAllTest() {
+        SpecialTieredArrayList<Integer> currentArr = new SpecialTieredArrayList<>(8);
+        for (int i = 0; i < 100; i++) {
+            currentArr.add(i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            currentArr.remove(RANDOM.nextInt(currentArr.size()));
+        }
+
+        assertTrue(currentArr.isEmpty());
+        currentArr.add(42);
+        assertEquals(42, currentArr.get(0));
+    }
+
+    @Test
+    void outOfBoundTest() {
+        SpecialTieredArrayList<Integer> currentArr = new SpecialTieredArrayList<>(new Integer[]{1, 2, 3});
+
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.get(-1));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.add(4, 42));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.remove(3));
+        Assertions.assertThrows(IndexOutOfRangeException.class, () -> currentArr.replace(3, 42));
+    }
+
+    @Test
+    void addAllTest() {
+        SpecialTieredArrayList<Integer> currentArr = new SpecialTieredArrayList<>(16);
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            Integer[] batch = new Integer[RANDOM.nextInt(40)];
+            for (int j = 0; j < batch.length; j++) {
+                batch[j] = RANDOM.nextInt();
+            }
+            if (i % 5 == 0 && !expectedArr.isEmpty()) {
+                currentArr.add(0, i);
+                expectedArr.add(0, i);
+            }
+            currentArr.addAll(batch);
+            expectedArr.addAll(Arrays.asList(batch));
+        }
+
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+    }
+
+    @Test
+    void sortTest() {
+        SpecialTieredArrayList<Integer> currentArr = new SpecialTieredArrayList<>(32);
+        ArrayList<Integer> expectedArr = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int val = RANDOM.nextInt(1000);
+            currentArr.add(0, val);
+            expectedArr.add(0, val);
+        }
+
+        currentArr.sort();
+        expectedArr.sort(Comparator.naturalOrder());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+        currentArr.remove(0);
+        expectedArr.remove(0);
+        currentArr.sort(Comparator.reverseOrder());
+        expectedArr.sort(Comparator.reverseOrder());
+        assertArrayEquals(expectedArr.toArray(), currentArr.toArray());
+
+        currentArr.add(null);
+        Assertions.assertThrows(SortNullElementException.class, () -> currentArr.sort(Comparator.reverseOrder()));
+    }
+
+    @Test
+    void cleanTrimAndEqualsTest() {
+        SpecialTieredArrayList<Integer> arr1 = new SpecialTieredArrayList<>(4);
+        SpecialTieredArrayList<Integer> arr2 = new SpecialTieredArrayList<>(16);
+
+        for (int i = 0; i < 100; i++) {
+            arr1.add(i);
+            arr2.add(0, 99 - i);
+        }
+        assertEquals(arr1, arr2);
+        assertEquals(arr1.hashCode(), arr2.hashCode());
+
+        arr1.trim();
+        assertEquals(arr1, arr2);
+
+        arr1.clean();
+        assertTrue(arr1.isEmpty());
+        assertFalse(arr1.hasNull());
+        arr1.add(1);
+        assertEquals(1, arr1.size());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.special_collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StableSortingTest {
+    static final Random RANDOM = new Random();
+    static final Comparator<int[]> BY_KEY = Comparator.comparingInt(x -> x[0]);
+
+    @Test
+    void sortStabilityTest() {
+        for (int capacity : new int[]{1, 2, 31, 32, 33, 1000, 100_000}) {
+            int[][] currentArr = new int[capacity][];
+            for (int i = 0; i < capacity; i++) {
+                currentArr[i] = new int[]{RANDOM.nextInt(50), i};
+            }
+            int[][] expectedArr = currentArr.clone();
+
+            StableSorting.sort(currentArr, 0, capacity - 1, BY_KEY, null);
+            Arrays.sort(expectedArr, BY_KEY);
+
+            assertArrayEquals(expectedArr, currentArr);
+        }
+    }
+
+    @Test
+    void sortRunsTest() {
+        int capacity = 10_000;
+        Integer[] currentArr = new Integer[capacity];
+        //убывающий, возрастающий и снова убывающий отрезки
+        for (int i = 0; i < capacity; i++) {
+            currentArr[i] = i < capacity / 3 ? -i : i < 2 * capacity / 3 ? i : capacity - i;
+        }
+        Integer[] expectedArr = currentArr.clone();
+
+        StableSorting.sort(currentArr, 0, capacity - 1, Comparator.naturalOrder(), null);
+        Arrays.sort(expectedArr);
+
+        assertArrayEquals(expectedArr, currentArr);
+    }
+
+    @Test
+    void sortReusesBufferTest() {
+        Integer[] arr = SortingTest.randomArr(10_000, 1000);
+        Object[] buffer = StableSorting.sort(arr, 0, arr.length - 1, Comparator.naturalOrder(), null);
+
+        assertNotNull(buffer);
+        for (Object element : buffer) {
+            assertNull(element);
+        }
+
+        arr = SortingTest.randomArr(5_000, 1000);
+        assertSame(buffer, StableSorting.sort(arr, 0, arr.length - 1, Comparator.naturalOrder(), buffer));
+    }
+
+    @Test
+    void minRunLengthTest() {
+        assertEquals(31, StableSorting.minRunLength(31));
+        assertEquals(16, StableSorting.minRunLength(32));
+        assertEquals(17, StableSorting.minRunLength(33));
+        assertEquals(16, StableSorting.minRunLength(1 << 20));
+    }
+}
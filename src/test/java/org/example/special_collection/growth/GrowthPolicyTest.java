@@ -0,0 +1,92 @@
+package org.example.special_collection.growth;
+
+import org.example.special_collection.exception.CapacityException;
+import org.example.special_collection.exception.ExpansionCoefficientException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrowthPolicyTest {
+    static final Random RANDOM = new Random();
+
+
+    //grow
+    @Test
+    void geometricTest() {
+        GrowthPolicy policy = new GeometricGrowthPolicy(1.5);
+
+        assertEquals(16, policy.grow(10, 11));
+        assertEquals(1, policy.grow(0, 1));
+        assertEquals(100, policy.grow(10, 100));
+        Assertions.assertThrows(ExpansionCoefficientException.class, () -> new GeometricGrowthPolicy(1.0));
+    }
+
+    @Test
+    void fixedIncrementTest() {
+        GrowthPolicy policy = new FixedIncrementGrowthPolicy(100);
+
+        assertEquals(110, policy.grow(10, 11));
+        assertEquals(1_000_100, policy.grow(1_000_000, 1_000_001));
+        Assertions.assertThrows(CapacityException.class, () -> new FixedIncrementGrowthPolicy(0));
+    }
+
+    @Test
+    void cappedGeometricTest() {
+        GrowthPolicy policy = new CappedGeometricGrowthPolicy(2.0, 1000);
+
+        assertEquals(21, policy.grow(10, 11));
+        assertEquals(1_001_000, policy.grow(1_000_000, 1_000_001));
+        assertEquals(2_000_000, policy.grow(1_000_000, 2_000_000));
+        Assertions.assertThrows(CapacityException.class, () -> new CappedGeometricGrowthPolicy(2.0, -1));
+        Assertions.assertThrows(ExpansionCoefficientException.class, () -> new CappedGeometricGrowthPolicy(0.5, 10));
+    }
+
+    @Test
+    void pageAlignedTest() {
+        GrowthPolicy policy = new PageAlignedGrowthPolicy(1.5);
+
+        assertEquals(16, policy.grow(10, 11));
+        for (int i = 0; i < 1000; i++) {
+            int capacity = 700 + RANDOM.nextInt(1_000_000);
+            int newCapacity = policy.grow(capacity, capacity + 1);
+
+            assertEquals(0, newCapacity % PageAlignedGrowthPolicy.DEFAULT_PAGE_ELEMENTS);
+            assertTrue(newCapacity > capacity * 1.5);
+        }
+        Assertions.assertThrows(CapacityException.class, () -> new PageAlignedGrowthPolicy(1.5, 0));
+    }
+
+    @Test
+    void growLimitTest() {
+        GrowthPolicy policy = new GeometricGrowthPolicy(2.0);
+
+        assertEquals(GrowthPolicy.MAX_CAPACITY, policy.grow(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2));
+        Assertions.assertThrows(CapacityException.class, () -> policy.grow(GrowthPolicy.MAX_CAPACITY, Integer.MAX_VALUE));
+    }
+
+
+    //shrink
+    @Test
+    void noShrinkByDefaultTest() {
+        GrowthPolicy policy = new GeometricGrowthPolicy(1.5);
+
+        assertEquals(1000, policy.shrink(1000, 0));
+    }
+
+    @Test
+    void autoShrinkHysteresisTest() {
+        GrowthPolicy policy = new GeometricGrowthPolicy(2.0).withAutoShrink(16);
+
+        assertEquals(1000, policy.shrink(1000, 251));
+        assertEquals(500, policy.shrink(1000, 250));
+        assertEquals(16, policy.shrink(1000, 0));
+        assertEquals(16, policy.shrink(16, 0));
+        //после сжатия массив заполнен наполовину: ни рост, ни новое сжатие сразу не нужны
+        assertEquals(500, policy.shrink(500, 250));
+        assertEquals(2001, policy.grow(1000, 1001));
+        Assertions.assertThrows(CapacityException.class, () -> new GeometricGrowthPolicy(2.0).withAutoShrink(0));
+    }
+}